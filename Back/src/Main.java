@@ -19,34 +19,26 @@ public class Main {
         String villeDeDepart = "Rennes";
 
         // --- BFS ---
-        // La nouvelle méthode BFS retourne une Map contenant l'ordre de visite ET l'arbre
-        Map<String, Object> bfsResult = BFS.bfs(roadNetwork, villeDeDepart);
-        @SuppressWarnings("unchecked")
-        List<Node> bfsOrder = (List<Node>) bfsResult.get("visitOrder");
-        @SuppressWarnings("unchecked")
-        List<Edge> bfsTree = (List<Edge>) bfsResult.get("treeEdges");
-
-        String bfsOrderStr = bfsOrder.stream()
+        // Le résultat typé contient l'ordre de visite ET l'arbre
+        TraversalResult bfsResult = BFS.traversal(roadNetwork, villeDeDepart);
+
+        String bfsOrderStr = bfsResult.visitOrder().stream()
                 .map(Node::getId)
                 .collect(Collectors.joining(" -> "));
         System.out.println("Ordre de visite BFS depuis " + villeDeDepart + ":");
         System.out.println(bfsOrderStr);
-        System.out.println("Arbre couvrant BFS (Taille: " + bfsTree.size() + ")");
+        System.out.println("Arbre couvrant BFS (Taille: " + bfsResult.treeEdgeCount() + ")");
 
         // --- DFS ---
-        // La nouvelle méthode DFS retourne aussi une Map
-        Map<String, Object> dfsResult = DFS.dfs(roadNetwork, villeDeDepart);
-        @SuppressWarnings("unchecked")
-        List<Node> dfsOrder = (List<Node>) dfsResult.get("visitOrder");
-        @SuppressWarnings("unchecked")
-        List<Edge> dfsTree = (List<Edge>) dfsResult.get("treeEdges");
-
-        String dfsOrderStr = dfsOrder.stream()
+        // Même type de résultat pour le DFS
+        TraversalResult dfsResult = DFS.traversal(roadNetwork, villeDeDepart);
+
+        String dfsOrderStr = dfsResult.visitOrder().stream()
                 .map(Node::getId)
                 .collect(Collectors.joining(" -> "));
         System.out.println("\nOrdre de visite DFS depuis " + villeDeDepart + ":");
         System.out.println(dfsOrderStr);
-        System.out.println("Arbre couvrant DFS (Taille: " + dfsTree.size() + ")");
+        System.out.println("Arbre couvrant DFS (Taille: " + dfsResult.treeEdgeCount() + ")");
 
 
         // -----------------------------------------------------------------
@@ -54,10 +46,9 @@ public class Main {
         // -----------------------------------------------------------------
 
         // On peut démarrer de n'importe quelle ville, ex: "Rennes"
-        Map<String, Object> mstResult = Prim.prim(roadNetwork, "Rennes");
-        @SuppressWarnings("unchecked")
-        List<Edge> mstEdges = (List<Edge>) mstResult.get("edges");
-        double totalCost = (double) mstResult.get("totalWeight");
+        SpanningTreeResult mstResult = Prim.spanningTree(roadNetwork, "Rennes");
+        List<Edge> mstEdges = mstResult.edges();
+        double totalCost = mstResult.totalWeight();
 
         System.out.println("Réseau routier minimal (Prim) :");
         for (Edge edge : mstEdges) {
@@ -84,14 +75,10 @@ public class Main {
                 // On ne somme que les arêtes de l'ACPM
                 kruskalTotal += e.getWeight();
             }
-            // Note: Kruskal.traverse() retourne les doublons (A->B et B->A) si le graphe est dirigé
-            // Mais votre UnionFind les gère correctement. Pour un coût juste, on divise par 2
-            // si les arêtes sont stockées dans les deux sens (ce que fait votre Kruskal).
-            // Mieux : on recalcule la somme.
+            // Les routes sont non dirigées et stockées une seule fois :
+            // chaque arête de l'ACPM n'apparaît qu'une fois dans la somme.
             kruskalTotal = kruskalMst.stream().mapToDouble(Edge::getWeight).sum();
 
-            // Si votre 'traverse' retourne A->B et B->A, le total sera double.
-            // La solution de votre 'Kruskal.java' gère cela, donc le total est correct.
             System.out.println("Coût total du réseau minimal (Kruskal): " + kruskalTotal);
         }
 
@@ -103,15 +90,13 @@ public class Main {
         String arrivee = "Lille";
         System.out.println("Recherche du plus court chemin de " + depart + " à " + arrivee + "...");
 
-        Map<String, Object> dijkstraResult = Dijkstra.dijkstra(roadNetwork, depart, arrivee);
-        double distance = (double) dijkstraResult.get("distance");
-        @SuppressWarnings("unchecked")
-        List<Node> path = (List<Node>) dijkstraResult.get("path");
+        ShortestPathResult dijkstraResult = Dijkstra.route(roadNetwork, depart, arrivee);
+        double distance = dijkstraResult.distance();
 
-        if (distance == Double.POSITIVE_INFINITY) {
+        if (!dijkstraResult.found()) {
             System.out.println("Aucun chemin trouvé de " + depart + " à " + arrivee + ".");
         } else {
-            String pathStr = path.stream()
+            String pathStr = dijkstraResult.path().stream()
                     .map(Node::getId)
                     .collect(Collectors.joining(" -> "));
 
@@ -144,6 +129,8 @@ public class Main {
                 double dist = shortestPaths.get(rowCity).get(colCity);
                 if (dist == Double.POSITIVE_INFINITY) {
                     System.out.printf("%-10s", "Inf");
+                } else if (dist == Double.NEGATIVE_INFINITY) {
+                    System.out.printf("%-10s", "-Inf"); // Chemin passant par un cycle négatif
                 } else {
                     System.out.printf("%-10.0f", dist); // Imprimer la distance sans décimales
                 }
@@ -158,27 +145,27 @@ public class Main {
         String bfSource = "Rennes";
         System.out.println("Calcul des distances depuis " + bfSource + " (Bellman-Ford)...");
 
-        // Utilisation de la nouvelle méthode BellmanFord qui retourne une Map
-        Map<String, Object> bfResult = BellmanFord.findShortestPaths(roadNetwork, bfSource);
+        SingleSourceResult bfResult = BellmanFord.singleSource(roadNetwork, bfSource);
 
-        @SuppressWarnings("unchecked")
-        boolean hasNegativeCycle = (boolean) bfResult.get("negativeCycle");
-
-        if (hasNegativeCycle) {
+        if (bfResult.hasNegativeCycle()) {
             System.out.println("Erreur (Bellman-Ford) : Cycle de poids négatif détecté !");
+            System.out.println("Cycle : " + bfResult.negativeCycle().stream().map(Node::getId).collect(Collectors.joining(" -> ")));
         } else {
-            @SuppressWarnings("unchecked")
-            Map<Node, Double> distances = (Map<Node, Double>) bfResult.get("distances");
+            CsrGraph bfGraph = bfResult.graph();
 
             System.out.println("Distances depuis " + bfSource + " :");
 
             // Trier la sortie pour un affichage propre
-            List<Map.Entry<Node, Double>> sortedDistances = new ArrayList<>(distances.entrySet());
-            sortedDistances.sort(Map.Entry.comparingByKey(Comparator.comparing(Node::getId)));
+            List<Integer> sortedNodes = new ArrayList<>();
+            for (int v = 0; v < bfGraph.nodeCount(); v++) {
+                sortedNodes.add(v);
+            }
+            sortedNodes.sort(Comparator.comparing(bfGraph::nameOf));
 
-            for (Map.Entry<Node, Double> entry : sortedDistances) {
-                String distStr = (entry.getValue() == Double.POSITIVE_INFINITY) ? "Infini" : String.format("%.0f", entry.getValue());
-                System.out.println(" - " + entry.getKey().getId() + " = " + distStr);
+            for (int v : sortedNodes) {
+                double dist = bfResult.distance(v);
+                String distStr = (dist == Double.POSITIVE_INFINITY) ? "Infini" : String.format("%.0f", dist);
+                System.out.println(" - " + bfGraph.nameOf(v) + " = " + distStr);
             }
         }
     }
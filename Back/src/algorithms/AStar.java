@@ -0,0 +1,103 @@
+package algorithms;
+
+import models.*;
+import java.util.*;
+
+/**
+ * Algorithme A* : Dijkstra guidé vers la destination par une heuristique.
+ *
+ * Le tas est ordonné par g(u) + h(u), où g est la distance depuis le départ
+ * et h l'estimation de la distance restante. Avec une heuristique cohérente,
+ * le chemin retourné est le même plus court chemin que Dijkstra, mais les
+ * nœuds « dans la mauvaise direction » ne sont presque jamais explorés.
+ */
+public class AStar {
+
+    /**
+     * Variante de {@link #aStar(CsrGraph, String, String, Heuristic)} sur Graph,
+     * par la vue CSR que le graphe garde en cache (voir {@link Graph#freeze()}).
+     */
+    public static Map<String, Object> aStar(Graph graph, String startNodeId, String endNodeId, Heuristic heuristic) {
+        return aStar(graph.freeze(), startNodeId, endNodeId, heuristic);
+    }
+
+    /**
+     * Cherche le plus court chemin entre deux nœuds avec A*.
+     *
+     * @param graph       Le graphe (vue CSR) sur lequel chercher.
+     * @param startNodeId La ville de départ.
+     * @param endNodeId   La ville d'arrivée.
+     * @param heuristic   L'estimation de la distance restante (voir {@link Heuristic}).
+     *
+     * @return Même contrat que {@link Dijkstra#dijkstra(Graph, String, String)} :
+     * - "path" (List<Node>): Le chemin le plus court (liste de nœuds).
+     * - "distance" (Double): La distance totale du chemin.
+     */
+    public static Map<String, Object> aStar(CsrGraph graph, String startNodeId, String endNodeId, Heuristic heuristic) {
+        int start = graph.idOf(startNodeId);
+        int end = graph.idOf(endNodeId);
+
+        if (start < 0 || end < 0) {
+            System.err.println("Nœud de départ ou d'arrivée introuvable !");
+            return Collections.emptyMap();
+        }
+
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            double distance = shortestPath(graph, start, end, heuristic, ws);
+
+            List<Node> path = new ArrayList<>();
+            if (distance == Double.POSITIVE_INFINITY) {
+                return Map.of("distance", Double.POSITIVE_INFINITY, "path", path); // Pas de chemin
+            }
+
+            for (int step = end; step >= 0; step = ws.predecessor(step)) {
+                path.add(graph.node(step));
+            }
+            Collections.reverse(path);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("path", path);
+            result.put("distance", distance);
+            return result;
+        }
+    }
+
+    /**
+     * Cœur de A* sur identifiants denses.
+     *
+     * @param ws Espace de travail ; distances (g) et prédécesseurs y restent lisibles après l'appel.
+     * @return La distance de start à end, infinie s'il n'y a pas de chemin.
+     */
+    public static double shortestPath(CsrGraph graph, int start, int end, Heuristic heuristic, QueryWorkspace ws) {
+        ws.reset();
+        IndexedHeap heap = ws.heap();
+
+        ws.update(start, 0.0, -1);
+        heap.push(start, heuristic.estimate(graph, start, end));
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            ws.settle(current);
+
+            if (current == end) {
+                return ws.distance(end);
+            }
+
+            double currentDist = ws.distance(current);
+            for (int e = graph.firstEdge(current); e < graph.endEdge(current); e++) {
+                int neighbor = graph.target(e);
+                if (ws.isSettled(neighbor)) {
+                    continue;
+                }
+
+                double newDist = currentDist + graph.weight(e);
+                if (newDist < ws.distance(neighbor)) {
+                    ws.update(neighbor, newDist, current);
+                    heap.push(neighbor, newDist + heuristic.estimate(graph, neighbor, end));
+                }
+            }
+        }
+
+        return Double.POSITIVE_INFINITY;
+    }
+}
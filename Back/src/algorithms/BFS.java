@@ -1,6 +1,6 @@
 package algorithms;
 
-import models.Edge;
+import models.CsrGraph;
 import models.Graph;
 import models.Node;
 
@@ -23,43 +23,199 @@ public class  BFS {
      * - "treeEdges" (List<Edge>): Les arêtes de l'arbre couvrant BFS.
      *
      * Retourne une Map vide si le nœud de départ n'est pas trouvé.
+     *
+     * Adaptateur vers {@link #traversal(CsrGraph, int)} qui conserve le
+     * format de retour historique. La vue CSR est celle que le graphe garde
+     * en cache (voir {@link Graph#freeze()}) et l'état du parcours vient du
+     * pool de QueryWorkspace : un appel ne coûte que les nœuds atteints.
      */
     public static Map<String, Object> bfs(Graph graph, String startNodeId) {
-        List<Node> visitedOrder = new ArrayList<>();
-        List<Edge> treeEdges = new ArrayList<>();
+        return bfs(graph.freeze(), startNodeId);
+    }
+
+    /**
+     * Variante de {@link #bfs(Graph, String)} sur la vue CSR du graphe. Même contrat de retour.
+     */
+    public static Map<String, Object> bfs(CsrGraph graph, String startNodeId) {
+        int start = graph.idOf(startNodeId);
+        if (start < 0) {
+            System.err.println("Start node " + startNodeId + " not found!");
+            return TraversalResult.emptyMap();
+        }
+        return traversal(graph, start).toMap();
+    }
 
-        Set<Node> visited = new HashSet<>();
-        Queue<Node> queue = new LinkedList<>();
+    /**
+     * Variante typée de {@link #bfs(Graph, String)}.
+     *
+     * @throws IllegalArgumentException si le nœud de départ est introuvable.
+     */
+    public static TraversalResult traversal(Graph graph, String startNodeId) {
+        CsrGraph csr = graph.freeze();
+        return traversal(csr, csr.requireId(startNodeId));
+    }
+
+    /**
+     * Parcours en largeur sur identifiants denses, sans Map ni liste d'objets.
+     *
+     * La file et les nœuds visités vivent dans un QueryWorkspace emprunté au
+     * pool : rien n'est réinitialisé ni alloué en O(V) entre deux appels, le
+     * résultat est dimensionné au nombre de nœuds atteints.
+     */
+    public static TraversalResult traversal(CsrGraph graph, int start) {
+        // La liste des nœuds touchés de l'espace de travail sert de file :
+        // chaque nœud y est ajouté une seule fois, au moment de sa découverte.
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            ws.update(start, 0, -1);
+
+            int head = 0;
+            for (; head < ws.touchedCount(); head++) {
+                int current = ws.touched(head);
+                for (int e = graph.firstEdge(current); e < graph.endEdge(current); e++) {
+                    int neighbor = graph.target(e);
+                    if (!ws.isTouched(neighbor)) {
+                        ws.update(neighbor, ws.distance(current) + 1, current);
+                    }
+                }
+            }
+
+            int[] order = new int[head];
+            int[] treeEdges = new int[Math.max(0, head - 1)];
+            for (int i = 0; i < head; i++) {
+                order[i] = ws.touched(i);
+            }
+            for (int i = 1; i < head; i++) {
+                // L'arête de découverte est la première de la ligne du prédécesseur qui mène au nœud
+                int v = order[i];
+                int parent = ws.predecessor(v);
+                int e = graph.firstEdge(parent);
+                while (graph.target(e) != v) {
+                    e++;
+                }
+                treeEdges[i - 1] = e;
+            }
+            return new TraversalResult(graph, order, head, treeEdges);
+        }
+    }
+
+    /**
+     * Parcours en largeur multi-sources : la file est initialisée avec toutes
+     * les sources, et chaque nœud découvert appartient à la source de celui
+     * qui l'a découvert. Une seule passe donne, pour chaque nœud, le nombre
+     * d'arêtes jusqu'à la source la plus proche et cette source.
+     *
+     * @param graph     Le graphe à parcourir.
+     * @param sourceIds Les nœuds sources.
+     * @return Une Map contenant, pour chaque nœud atteint :
+     * - "hops" (Map<Node, Integer>): Le nombre d'arêtes depuis la source la plus proche.
+     * - "owners" (Map<Node, Node>): Cette source.
+     */
+    public static Map<String, Object> multiSource(Graph graph, Collection<String> sourceIds) {
+        return multiSource(graph.freeze(), sourceIds);
+    }
+
+    /**
+     * Variante de {@link #multiSource(Graph, Collection)} sur la vue CSR du graphe.
+     */
+    public static Map<String, Object> multiSource(CsrGraph graph, Collection<String> sourceIds) {
+        int[] sources = graph.idsOf(sourceIds);
+        int[] owners = new int[graph.nodeCount()];
+
+        Map<Node, Integer> hops = new HashMap<>();
+        Map<Node, Node> ownerNodes = new HashMap<>();
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            multiSourceHops(graph, sources, ws, owners);
+            for (int t = 0; t < ws.touchedCount(); t++) {
+                int v = ws.touched(t);
+                hops.put(graph.node(v), (int) ws.distance(v));
+                ownerNodes.put(graph.node(v), graph.node(owners[v]));
+            }
+        }
 
         Map<String, Object> results = new HashMap<>();
-        results.put("visitOrder", visitedOrder);
-        results.put("treeEdges", treeEdges);
+        results.put("hops", hops);
+        results.put("owners", ownerNodes);
+        return results;
+    }
+
+    /**
+     * Cœur du parcours multi-sources sur identifiants denses. Les nombres
+     * d'arêtes sont les distances de l'espace de travail, dont la liste des
+     * nœuds touchés sert de file.
+     *
+     * @param owners Reçoit, pour chaque nœud touché, l'identifiant de sa source.
+     */
+    public static void multiSourceHops(CsrGraph graph, int[] sources, QueryWorkspace ws, int[] owners) {
+        ws.reset();
+        for (int source : sources) {
+            if (!ws.isTouched(source)) {
+                ws.update(source, 0, -1);
+                owners[source] = source;
+            }
+        }
+
+        for (int head = 0; head < ws.touchedCount(); head++) {
+            int current = ws.touched(head);
+            for (int e = graph.firstEdge(current); e < graph.endEdge(current); e++) {
+                int neighbor = graph.target(e);
+                if (!ws.isTouched(neighbor)) {
+                    ws.update(neighbor, ws.distance(current) + 1, current);
+                    owners[neighbor] = owners[current];
+                }
+            }
+        }
+    }
 
-        Node startNode = graph.getNode(startNodeId);
-        if (startNode == null) {
+    /**
+     * Variante parallèle de {@link #bfs(CsrGraph, String)}, sur le moteur
+     * à direction optimisée {@link ParallelBFS}.
+     *
+     * @param deterministic Si true, "visitOrder" et "treeEdges" sont identiques à
+     *                      ceux du BFS séquentiel (utile pour l'animation) ; sinon
+     *                      l'ordre à l'intérieur d'un niveau dépend des threads.
+     * @return Les entrées de {@link #bfs(Graph, String)}, plus
+     * - "hops" (Map<Node, Integer>): Le nombre d'arêtes depuis le départ, pour chaque nœud atteint.
+     */
+    public static Map<String, Object> bfs(CsrGraph graph, String startNodeId, boolean deterministic) {
+        int start = graph.idOf(startNodeId);
+        if (start < 0) {
             System.err.println("Start node " + startNodeId + " not found!");
+            Map<String, Object> results = TraversalResult.emptyMap();
+            results.put("hops", new HashMap<Node, Integer>());
             return results;
         }
 
-        queue.add(startNode);
-        visited.add(startNode);
+        ParallelBFS search = ParallelBFS.run(graph, start, deterministic);
+        Map<Node, Integer> hops = new HashMap<>();
+        for (int i = 0; i < search.visitedCount(); i++) {
+            int v = search.visited(i);
+            hops.put(graph.node(v), search.hops(v));
+        }
 
-        while (!queue.isEmpty()) {
-            Node currentNode = queue.poll();
-            visitedOrder.add(currentNode);
+        Map<String, Object> results = traversal(search).toMap();
+        results.put("hops", hops);
+        return results;
+    }
 
-            for (Edge edge : currentNode.getEdges()) {
-                Node neighbor = edge.getTarget();
-                if (!visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    queue.add(neighbor);
+    /**
+     * Variante typée de {@link #bfs(CsrGraph, String, boolean)} (sans les
+     * nombres d'arêtes, lisibles sur {@link ParallelBFS#run(CsrGraph, int, boolean)}).
+     */
+    public static TraversalResult traversal(CsrGraph graph, int start, boolean deterministic) {
+        return traversal(ParallelBFS.run(graph, start, deterministic));
+    }
 
-                    // Cette arête a été utilisée pour découvrir un nouveau nœud
-                    treeEdges.add(edge); // <-- NOUVEAU
-                }
+    /** Ordre de visite et arbre d'un parcours parallèle déjà effectué. */
+    private static TraversalResult traversal(ParallelBFS search) {
+        int count = search.visitedCount();
+        int[] order = new int[count];
+        int[] treeEdges = new int[Math.max(0, count - 1)];
+        for (int i = 0; i < count; i++) {
+            order[i] = search.visited(i);
+            if (i > 0) {
+                treeEdges[i - 1] = search.parentEdge(order[i]);
             }
         }
-        return results;
+        return new TraversalResult(search.graph(), order, count, treeEdges);
     }
 }
-
@@ -1,8 +1,7 @@
 package algorithms;
 
+import models.CsrGraph;
 import models.Graph;
-import models.Node;
-import models.Edge;
 
 import java.util.*;
 
@@ -14,63 +13,216 @@ public class BellmanFord {
     /**
      * Calcule les distances minimales depuis un nœud source vers tous les autres.
      *
+     * Adaptateur vers {@link #singleSource(CsrGraph, int)} (file de travail
+     * SPFA) qui conserve le format de retour historique. La vue CSR est celle
+     * que le graphe garde en cache (voir {@link Graph#freeze()}) et l'état des
+     * relaxations vient du pool de QueryWorkspace ; seules les Maps du
+     * résultat, qui listent tous les nœuds, restent en O(V).
+     *
      * @param graph   Le graphe à explorer
      * @param startId L'identifiant du nœud de départ
      * @return Une Map (String -> Object) contenant :
      * - "distances" (Map<Node, Double>)
      * - "predecessors" (Map<Node, Node>)
      * - "negativeCycle" (Boolean)
+     * - "cycle" (List<Node>) : si negativeCycle, les nœuds d'un cycle négatif, dans l'ordre
      */
     public static Map<String, Object> findShortestPaths(Graph graph, String startId) {
-        Node start = graph.getNode(startId);
-
-        // Map de résultats
-        Map<String, Object> result = new HashMap<>();
+        if (graph.getNode(startId) == null) {
+            throw new IllegalArgumentException("Nœud de départ introuvable : " + startId);
+        }
+        return findShortestPaths(graph.freeze(), startId);
+    }
 
-        if (start == null) {
+    /**
+     * Variante de {@link #findShortestPaths(Graph, String)} sur la vue CSR du graphe.
+     *
+     * Les relaxations travaillent dans un QueryWorkspace emprunté au pool ;
+     * les Maps du résultat ne sont construites qu'à la fin. Même contrat de retour.
+     */
+    public static Map<String, Object> findShortestPaths(CsrGraph graph, String startId) {
+        int start = graph.idOf(startId);
+        if (start < 0) {
             throw new IllegalArgumentException("Nœud de départ introuvable : " + startId);
         }
+        return singleSource(graph, start).toMap();
+    }
+
+    /**
+     * Variante typée de {@link #findShortestPaths(Graph, String)}.
+     *
+     * @throws IllegalArgumentException si le nœud de départ est introuvable.
+     */
+    public static SingleSourceResult singleSource(Graph graph, String startId) {
+        CsrGraph csr = graph.freeze();
+        return singleSource(csr, csr.requireId(startId));
+    }
+
+    /**
+     * Distances et prédécesseurs depuis start, ou le cycle négatif atteint,
+     * sans Map ni boxing : seuls les nœuds atteints sont copiés hors de
+     * l'espace de travail (voir {@link SingleSourceResult}).
+     */
+    public static SingleSourceResult singleSource(CsrGraph graph, int start) {
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            int[] cycle = negativeCycle(graph, start, ws);
+            if (cycle != null) {
+                return SingleSourceResult.negativeCycle(graph, start, cycle);
+            }
+            return SingleSourceResult.from(graph, start, ws);
+        }
+    }
+
+    /**
+     * Cœur de Bellman-Ford sur identifiants denses.
+     *
+     * @param graph La vue CSR.
+     * @param start Identifiant du nœud de départ.
+     * @param ws    Espace de travail ; distances et prédécesseurs y restent lisibles après l'appel.
+     * @return true si un cycle de poids négatif est accessible depuis start.
+     */
+    public static boolean shortestPaths(CsrGraph graph, int start, QueryWorkspace ws) {
+        return negativeCycle(graph, start, ws) != null;
+    }
+
+    /**
+     * Bellman-Ford à file de travail (SPFA).
+     *
+     * Au lieu de |V|-1 passes complètes sur toutes les arêtes, seuls les nœuds
+     * dont la distance vient de baisser sont replacés dans la file ; l'algorithme
+     * s'arrête dès que la file est vide. Deux raffinements classiques :
+     * - Small Label First : un nœud dont la distance est inférieure à celle de
+     *   la tête de file est inséré en tête plutôt qu'en queue ;
+     * - vérification du parent : un nœud dont le prédécesseur est encore dans
+     *   la file est ignoré, car sa distance va de toute façon baisser à nouveau.
+     *
+     * Un nœud atteint par un chemin d'au moins |V| arêtes prouve l'existence
+     * d'un cycle négatif. On cherche alors un cycle dans le graphe des
+     * prédécesseurs (un tel cycle est toujours de poids négatif) ; tant qu'il
+     * ne s'est pas encore formé, les relaxations continuent.
+     *
+     * @param graph La vue CSR.
+     * @param start Identifiant du nœud de départ.
+     * @param ws    Espace de travail ; s'il n'y a pas de cycle, distances et
+     *              prédécesseurs y restent lisibles après l'appel.
+     * @return Les nœuds d'un cycle négatif accessible depuis start, dans l'ordre
+     *         de parcours, ou null s'il n'y en a pas.
+     */
+    public static int[] negativeCycle(CsrGraph graph, int start, QueryWorkspace ws) {
+        ws.reset();
+        ws.update(start, 0.0, -1);
+        ws.queue()[0] = start;
+        ws.counts()[start] = 0;
+        ws.setQueued(start, true);
+        return relaxQueue(graph, ws, 1);
+    }
 
-        // Initialisation
-        Map<Node, Double> distance = new HashMap<>();
-        Map<Node, Node> predecessors = new HashMap<>(); // <-- AJOUTÉ
-        for (Node node : graph.getNodes()) {
-            distance.put(node, Double.POSITIVE_INFINITY);
+    /**
+     * Variante de {@link #negativeCycle(CsrGraph, int, QueryWorkspace)} depuis
+     * une source virtuelle reliée à tous les nœuds : tous partent à distance 0,
+     * sans prédécesseur. Sert aux potentiels de {@link Johnson}.
+     *
+     * @return Les nœuds d'un cycle négatif du graphe, ou null s'il n'y en a pas
+     *         (les distances de ws sont alors les potentiels).
+     */
+    static int[] negativeCycleFromAll(CsrGraph graph, QueryWorkspace ws) {
+        int n = graph.nodeCount();
+        ws.reset();
+        int[] queue = ws.queue();
+        int[] length = ws.counts();
+        for (int v = 0; v < n; v++) {
+            ws.update(v, 0.0, -1);
+            queue[v] = v;
+            length[v] = 0;
+            ws.setQueued(v, true);
         }
-        distance.put(start, 0.0);
+        return relaxQueue(graph, ws, n);
+    }
+
+    /**
+     * Boucle de SPFA : vide la file de ws, dont les size premières cases sont
+     * remplies (nœuds marqués en file, longueurs de chemin à jour).
+     */
+    private static int[] relaxQueue(CsrGraph graph, QueryWorkspace ws, int size) {
+        int n = graph.nodeCount();
 
-        int nbNodes = graph.getNodes().size();
-        List<Edge> edges = graph.getAllEdges();
+        // File circulaire : chaque nœud y figure au plus une fois. File, marques
+        // de présence et longueurs viennent de l'espace de travail : rien n'est
+        // alloué ni remis à zéro en O(V) d'une requête à l'autre.
+        int[] queue = ws.queue();
+        int[] length = ws.counts(); // nombre d'arêtes du chemin qui a donné la distance
+        int head = 0;
 
-        // Étape 1 : relaxation des arêtes |V|-1 fois
-        for (int i = 0; i < nbNodes - 1; i++) {
-            for (Edge edge : edges) {
-                Node u = edge.getSource();
-                Node v = edge.getTarget();
-                double newDist = distance.get(u) + edge.getWeight();
+        while (size > 0) {
+            int u = queue[head];
+            head = (head + 1) % n;
+            size--;
+            ws.setQueued(u, false);
 
-                if (distance.get(u) != Double.POSITIVE_INFINITY && newDist < distance.get(v)) {
-                    distance.put(v, newDist);
-                    predecessors.put(v, u); // <-- AJOUTÉ
+            int parent = ws.predecessor(u);
+            if (parent >= 0 && ws.isQueued(parent)) {
+                continue;
+            }
+
+            double du = ws.distance(u);
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                double newDist = du + graph.weight(e);
+                if (newDist >= ws.distance(v)) {
+                    continue;
+                }
+                ws.update(v, newDist, u);
+                length[v] = length[u] + 1;
+
+                if (length[v] >= n) {
+                    int[] cycle = findPredecessorCycle(ws, v);
+                    if (cycle != null) {
+                        return cycle;
+                    }
+                }
+
+                if (!ws.isQueued(v)) {
+                    ws.setQueued(v, true);
+                    if (size > 0 && newDist < ws.distance(queue[head])) {
+                        head = (head - 1 + n) % n;
+                        queue[head] = v;
+                    } else {
+                        queue[(head + size) % n] = v;
+                    }
+                    size++;
                 }
             }
         }
+        return null;
+    }
 
-        // Étape 2 : détection de cycle négatif
-        for (Edge edge : edges) {
-            Node u = edge.getSource();
-            Node v = edge.getTarget();
-            if (distance.get(u) != Double.POSITIVE_INFINITY && distance.get(u) + edge.getWeight() < distance.get(v)) {
-                // Cycle négatif détecté !
-                result.put("negativeCycle", true); // <-- MODIFIÉ
-                return result; // On retourne l'erreur
-            }
+    /**
+     * Remonte les prédécesseurs depuis v et retourne le cycle rencontré, ou null
+     * si la remontée aboutit à la source.
+     */
+    private static int[] findPredecessorCycle(QueryWorkspace ws, int v) {
+        int[] marks = ws.marks();
+        int stamp = ws.nextMark();
+        int x = v;
+        while (x >= 0 && marks[x] != stamp) {
+            marks[x] = stamp;
+            x = ws.predecessor(x);
+        }
+        if (x < 0) {
+            return null;
         }
 
-        // Pas de cycle, on retourne les résultats
-        result.put("negativeCycle", false);
-        result.put("distances", distance);
-        result.put("predecessors", predecessors);
-        return result;
+        // x est sur le cycle : on en fait le tour, puis on le remet dans le sens des arêtes
+        int count = 1;
+        for (int y = ws.predecessor(x); y != x; y = ws.predecessor(y)) {
+            count++;
+        }
+        int[] cycle = new int[count];
+        int y = x;
+        for (int i = count - 1; i >= 0; i--) {
+            cycle[i] = y;
+            y = ws.predecessor(y);
+        }
+        return cycle;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,179 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Edge;
+import models.Graph;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Algorithme de Borůvka parallèle pour l'Arbre Couvrant de Poids Minimum.
+ *
+ * À chaque tour, chaque composante choisit son arête sortante la moins chère
+ * (en parallèle sur les arêtes encore utiles), puis toutes ces arêtes sont
+ * ajoutées à l'arbre et les composantes fusionnées avec un Union-Find
+ * concurrent. Le nombre de composantes étant au moins divisé par deux à chaque
+ * tour, il y a au plus log2(V) tours.
+ *
+ * Les arêtes de même poids sont départagées par leur indice CSR (l'ordre de
+ * getAllEdges()) : c'est l'ordre que suit le tri stable de Kruskal, donc
+ * l'arbre obtenu est exactement celui de {@link Kruskal#traverse(Graph)},
+ * retourné dans le même ordre.
+ */
+public class Boruvka {
+    // Nombre d'arêtes (ou de nœuds) traitées par tâche parallèle
+    private static final int GRAIN = 4096;
+
+    /**
+     * Même contrat que {@link Kruskal#traverse(Graph)}.
+     *
+     * @param graph Le graphe (non-dirigé) à traiter.
+     * @return Une liste d'arêtes (List<Edge>) représentant l'ACPM.
+     */
+    public static List<Edge> traverse(Graph graph) {
+        return traverse(graph.freeze());
+    }
+
+    /**
+     * Variante de {@link #traverse(Graph)} sur la vue CSR du graphe.
+     */
+    public static List<Edge> traverse(CsrGraph graph) {
+        List<Edge> ACPM = new ArrayList<>();
+        for (int e : spanningForest(graph, ForkJoinPool.commonPool())) {
+            ACPM.add(graph.edge(e));
+        }
+        return ACPM;
+    }
+
+    /**
+     * Calcule la forêt couvrante de poids minimum (un arbre par composante connexe).
+     *
+     * @param pool Le ForkJoinPool sur lequel répartir chaque tour.
+     * @return Les indices CSR des arêtes retenues, par (poids, indice) croissant.
+     */
+    public static int[] spanningForest(CsrGraph graph, ForkJoinPool pool) {
+        return spanningForest(graph, pool, new ConcurrentDisjointSet(graph.nodeCount()));
+    }
+
+    /**
+     * Cœur de {@link #spanningForest(CsrGraph, ForkJoinPool)}. À la fin, uf
+     * réunit exactement les nœuds de chaque composante connexe, et la racine
+     * de chaque ensemble est son plus petit identifiant.
+     *
+     * @param uf Union-Find de nodeCount() singletons, rempli par l'appel.
+     */
+    static int[] spanningForest(CsrGraph graph, ForkJoinPool pool, ConcurrentDisjointSet uf) {
+        int n = graph.nodeCount();
+        int m = graph.edgeCount();
+
+        // Source de chaque arête (le CSR ne stocke que la cible)
+        int[] sources = new int[m];
+        Parallel.forRange(pool, 0, n, GRAIN, (from, to) -> {
+            for (int u = from; u < to; u++) {
+                for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                    sources[e] = u;
+                }
+            }
+        });
+
+        AtomicIntegerArray best = new AtomicIntegerArray(n); // meilleure arête de chaque racine, ou -1
+        for (int v = 0; v < n; v++) {
+            best.set(v, -1);
+        }
+        boolean[] inTree = new boolean[m];
+        AtomicInteger treeSize = new AtomicInteger();
+
+        // Arêtes qui relient encore deux composantes différentes
+        // (une arête non dirigée n'y figure qu'une fois, comme dans Kruskal)
+        int[] live = new int[m];
+        int liveCount = 0;
+        for (int e = 0; e < m; e++) {
+            if (!graph.isReverseCopy(e)) {
+                live[liveCount++] = e;
+            }
+        }
+
+        while (liveCount > 0) {
+            int[] current = live;
+            int[] next = new int[liveCount];
+            AtomicInteger nextCount = new AtomicInteger();
+
+            // 1. Arête sortante la moins chère de chaque composante ; au passage,
+            // on écarte les arêtes devenues internes à une composante
+            Parallel.forRange(pool, 0, liveCount, GRAIN, (from, to) -> {
+                int[] kept = new int[to - from];
+                int count = 0;
+                for (int i = from; i < to; i++) {
+                    int e = current[i];
+                    int ru = uf.find(sources[e]);
+                    int rv = uf.find(graph.target(e));
+                    if (ru != rv) {
+                        kept[count++] = e;
+                        offer(graph, best, ru, e);
+                        offer(graph, best, rv, e);
+                    }
+                }
+                if (count > 0) {
+                    System.arraycopy(kept, 0, next, nextCount.getAndAdd(count), count);
+                }
+            });
+            live = next;
+            liveCount = nextCount.get();
+
+            // 2. Fusion des composantes le long des arêtes choisies
+            int before = treeSize.get();
+            Parallel.forRange(pool, 0, n, GRAIN, (from, to) -> {
+                for (int r = from; r < to; r++) {
+                    int e = best.get(r);
+                    if (e < 0) {
+                        continue;
+                    }
+                    best.set(r, -1);
+                    // Deux composantes peuvent choisir la même arête : une seule union réussit
+                    if (uf.union(sources[e], graph.target(e))) {
+                        inTree[e] = true;
+                        treeSize.incrementAndGet();
+                    }
+                }
+            });
+            if (treeSize.get() == before) {
+                break;
+            }
+        }
+
+        // Même ordre que Kruskal : poids croissant, puis indice croissant
+        int[] result = new int[treeSize.get()];
+        double[] keys = new double[result.length];
+        int count = 0;
+        for (int e = 0; e < m; e++) {
+            if (inTree[e]) {
+                result[count] = e;
+                keys[count] = graph.weight(e);
+                count++;
+            }
+        }
+        return RadixSort.sortByKey(result, keys, count);
+    }
+
+    /** Remplace la meilleure arête de la racine r par e si e est moins chère. */
+    private static void offer(CsrGraph graph, AtomicIntegerArray best, int r, int e) {
+        while (true) {
+            int current = best.get(r);
+            if (current >= 0 && !lighter(graph, e, current)) {
+                return;
+            }
+            if (best.compareAndSet(r, current, e)) {
+                return;
+            }
+        }
+    }
+
+    /** Ordre total sur les arêtes : poids, puis indice CSR. */
+    private static boolean lighter(CsrGraph graph, int e, int f) {
+        int c = Double.compare(graph.weight(e), graph.weight(f));
+        return c < 0 || (c == 0 && e < f);
+    }
+}
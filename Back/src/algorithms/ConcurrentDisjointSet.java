@@ -0,0 +1,82 @@
+package algorithms;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Union-Find sans verrou, utilisable depuis plusieurs threads à la fois.
+ *
+ * Les liens sont posés par compareAndSet sur la racine : une union qui perd
+ * la course recommence avec les nouvelles racines. La racine d'indice le
+ * plus grand est toujours rattachée à l'autre, ce qui interdit les cycles
+ * sans avoir à maintenir un rang de façon atomique ; la compression par
+ * moitié (elle aussi par compareAndSet, un échec étant sans gravité) garde
+ * les chemins courts.
+ */
+public final class ConcurrentDisjointSet {
+    private final AtomicIntegerArray parent;
+
+    /** Crée size singletons {0}, {1}, ..., {size-1}. */
+    public ConcurrentDisjointSet(int size) {
+        parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    /** Nombre d'éléments. */
+    public int size() {
+        return parent.length();
+    }
+
+    /** @return Le représentant actuel de l'ensemble de x. */
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int gp = parent.get(p);
+            parent.compareAndSet(x, p, gp);
+            x = gp;
+        }
+    }
+
+    /**
+     * @return true si a et b sont dans le même ensemble. Le résultat est exact
+     * si aucune union n'a lieu en même temps.
+     */
+    public boolean connected(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return true;
+            }
+            // rootA toujours racine : aucune union ne l'a touchée entre-temps
+            if (parent.get(rootA) == rootA) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Réunit les ensembles de a et de b.
+     *
+     * @return true si cet appel a réuni deux ensembles différents ; parmi
+     * plusieurs unions concurrentes des mêmes ensembles, une seule retourne true.
+     */
+    public boolean union(int a, int b) {
+        while (true) {
+            int rootA = find(a);
+            int rootB = find(b);
+            if (rootA == rootB) {
+                return false;
+            }
+            int low = Math.min(rootA, rootB);
+            int high = Math.max(rootA, rootB);
+            if (parent.compareAndSet(high, high, low)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,681 @@
+package algorithms;
+
+import models.*;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Hiérarchie de contraction (Contraction Hierarchies) pour les requêtes
+ * point à point répétées sur un grand réseau routier.
+ *
+ * Prétraitement : les nœuds sont « contractés » un par un, du moins important
+ * au plus important. Contracter v, c'est le retirer du graphe en ajoutant un
+ * raccourci u -> w (de poids w(u,v) + w(v,w)) chaque fois que u -> v -> w est
+ * le seul plus court chemin entre u et w (sinon un « témoin » existe déjà).
+ *
+ * Requête : un Dijkstra bidirectionnel qui ne monte que vers des nœuds de rang
+ * plus élevé. Il ne touche que quelques centaines de nœuds, même sur un graphe
+ * continental. Les raccourcis sont ensuite dépliés en arêtes d'origine.
+ *
+ * Le résultat du prétraitement peut être sauvegardé ({@link #save(Path)}) puis
+ * rechargé ({@link #load(CsrGraph, Path)}) pour le même graphe.
+ */
+public final class ContractionHierarchy {
+    private static final int FILE_MAGIC = 0x43484732; // "CHG2"
+
+    // Limite du nombre de nœuds finalisés par une recherche de témoin
+    // (plus basse quand on ne fait qu'estimer la priorité d'un nœud)
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    private static final int SIMULATION_SETTLE_LIMIT = 50;
+
+    private final CsrGraph graph;
+    private final int[] rank;
+
+    // Arêtes de la hiérarchie : les m premières sont les arêtes CSR d'origine,
+    // les suivantes sont les raccourcis (via = nœud contracté, first/second = arêtes remplacées)
+    private final int[] edgeSource;
+    private final int[] edgeTarget;
+    private final double[] edgeWeight;
+    private final int[] edgeVia;
+    private final int[] edgeFirst;
+    private final int[] edgeSecond;
+
+    // Arêtes montantes sortant de u (rang de la cible plus élevé)
+    private final int[] upOffsets;
+    private final int[] upEdges;
+    // Arêtes descendantes arrivant en v (rang de la source plus élevé)
+    private final int[] downOffsets;
+    private final int[] downEdges;
+
+    private ContractionHierarchy(CsrGraph graph, int[] rank, int edgeCount, int[] edgeSource, int[] edgeTarget,
+                                 double[] edgeWeight, int[] edgeVia, int[] edgeFirst, int[] edgeSecond) {
+        this.graph = graph;
+        this.rank = rank;
+        this.edgeSource = Arrays.copyOf(edgeSource, edgeCount);
+        this.edgeTarget = Arrays.copyOf(edgeTarget, edgeCount);
+        this.edgeWeight = Arrays.copyOf(edgeWeight, edgeCount);
+        this.edgeVia = Arrays.copyOf(edgeVia, edgeCount);
+        this.edgeFirst = Arrays.copyOf(edgeFirst, edgeCount);
+        this.edgeSecond = Arrays.copyOf(edgeSecond, edgeCount);
+
+        int n = graph.nodeCount();
+        this.upOffsets = new int[n + 1];
+        this.downOffsets = new int[n + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            int u = this.edgeSource[e];
+            int v = this.edgeTarget[e];
+            if (u == v) continue;
+            if (rank[u] < rank[v]) {
+                upOffsets[u + 1]++;
+            } else {
+                downOffsets[v + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            upOffsets[i + 1] += upOffsets[i];
+            downOffsets[i + 1] += downOffsets[i];
+        }
+        this.upEdges = new int[upOffsets[n]];
+        this.downEdges = new int[downOffsets[n]];
+        int[] upCursor = Arrays.copyOf(upOffsets, n);
+        int[] downCursor = Arrays.copyOf(downOffsets, n);
+        for (int e = 0; e < edgeCount; e++) {
+            int u = this.edgeSource[e];
+            int v = this.edgeTarget[e];
+            if (u == v) continue;
+            if (rank[u] < rank[v]) {
+                upEdges[upCursor[u]++] = e;
+            } else {
+                downEdges[downCursor[v]++] = e;
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------
+    // Prétraitement
+    // -----------------------------------------------------------------
+
+    /**
+     * Construit la hiérarchie de contraction d'un graphe à poids positifs.
+     *
+     * @param graph La vue CSR du graphe.
+     * @return La hiérarchie, prête pour les requêtes.
+     * @throws IllegalArgumentException si le graphe contient un poids négatif.
+     */
+    public static ContractionHierarchy preprocess(CsrGraph graph) {
+        return new Builder(graph).build();
+    }
+
+    /**
+     * État de la contraction : graphe dynamique (listes d'arêtes entrantes et
+     * sortantes) qui grandit au fur et à mesure que des raccourcis sont ajoutés.
+     */
+    private static final class Builder {
+        private final CsrGraph graph;
+        private final int n;
+
+        private int edgeCount;
+        private int[] edgeSource;
+        private int[] edgeTarget;
+        private double[] edgeWeight;
+        private int[] edgeVia;
+        private int[] edgeFirst;
+        private int[] edgeSecond;
+
+        private final IntList[] outEdges;
+        private final IntList[] inEdges;
+        private final boolean[] contracted;
+        private final int[] deletedNeighbors;
+        private final int[] rank;
+
+        // Espace de la recherche de témoin et tampons du nœud en cours de contraction
+        private final QueryWorkspace witness;
+        private final int[] bestEdgeTo;
+        private final int[] bestEdgeStamp;
+        private int stamp;
+        private final int[] targetStamp;
+        private int targetGeneration;
+        private final IntList inNeighbors = new IntList();
+        private final IntList outNeighbors = new IntList();
+
+        Builder(CsrGraph graph) {
+            this.graph = graph;
+            this.n = graph.nodeCount();
+            int m = graph.edgeCount();
+
+            int capacity = Math.max(16, m + m / 2);
+            edgeSource = new int[capacity];
+            edgeTarget = new int[capacity];
+            edgeWeight = new double[capacity];
+            edgeVia = new int[capacity];
+            edgeFirst = new int[capacity];
+            edgeSecond = new int[capacity];
+
+            outEdges = new IntList[n];
+            inEdges = new IntList[n];
+            for (int v = 0; v < n; v++) {
+                outEdges[v] = new IntList();
+                inEdges[v] = new IntList();
+            }
+            contracted = new boolean[n];
+            deletedNeighbors = new int[n];
+            rank = new int[n];
+            witness = new QueryWorkspace(n);
+            bestEdgeTo = new int[n];
+            bestEdgeStamp = new int[n];
+            targetStamp = new int[n];
+
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                    if (graph.weight(e) < 0) {
+                        throw new IllegalArgumentException("Poids négatif non supporté : " + graph.edge(e));
+                    }
+                    // Les arêtes CSR gardent leur indice d'origine
+                    addEdge(u, graph.target(e), graph.weight(e), -1, -1, -1);
+                }
+            }
+        }
+
+        ContractionHierarchy build() {
+            IndexedHeap queue = new IndexedHeap(n);
+            for (int v = 0; v < n; v++) {
+                queue.push(v, priority(v));
+            }
+
+            int nextRank = 0;
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+
+                // Mise à jour paresseuse : si la priorité a augmenté, on réinsère
+                double current = priority(v);
+                if (!queue.isEmpty() && current > queue.peekKey()) {
+                    queue.push(v, current);
+                    continue;
+                }
+
+                contract(v, false);
+                contracted[v] = true;
+                rank[v] = nextRank++;
+
+                // Les arêtes vers v ne servent plus : on les retire des listes
+                // des voisins, et on compte v comme voisin supprimé
+                collectNeighbors(v);
+                for (int i = 0; i < inNeighbors.size(); i++) {
+                    forgetContracted(edgeSource[inNeighbors.get(i)]);
+                }
+                for (int i = 0; i < outNeighbors.size(); i++) {
+                    forgetContracted(edgeTarget[outNeighbors.get(i)]);
+                }
+            }
+
+            return new ContractionHierarchy(graph, rank, edgeCount, edgeSource, edgeTarget,
+                    edgeWeight, edgeVia, edgeFirst, edgeSecond);
+        }
+
+        private void forgetContracted(int u) {
+            deletedNeighbors[u]++;
+            prune(outEdges[u], false);
+            prune(inEdges[u], true);
+        }
+
+        /** Retire d'une liste d'adjacence les arêtes qui mènent à un nœud contracté. */
+        private void prune(IntList edges, boolean incoming) {
+            int kept = 0;
+            for (int i = 0; i < edges.size(); i++) {
+                int e = edges.get(i);
+                int other = incoming ? edgeSource[e] : edgeTarget[e];
+                if (!contracted[other]) {
+                    edges.set(kept++, e);
+                }
+            }
+            edges.truncate(kept);
+        }
+
+        /**
+         * Priorité de contraction : différence d'arêtes (raccourcis ajoutés moins
+         * arêtes retirées), pondérée, plus le nombre de voisins déjà contractés
+         * pour répartir les contractions uniformément dans le graphe.
+         */
+        private double priority(int v) {
+            int shortcuts = contract(v, true);
+            int degree = inNeighbors.size() + outNeighbors.size();
+            return 2.0 * (shortcuts - degree) + deletedNeighbors[v];
+        }
+
+        /**
+         * Contracte v (ou simule sa contraction).
+         *
+         * @param simulate Si true, compte les raccourcis sans les ajouter.
+         * @return Le nombre de raccourcis nécessaires.
+         */
+        private int contract(int v, boolean simulate) {
+            collectNeighbors(v);
+            int shortcuts = 0;
+
+            for (int i = 0; i < inNeighbors.size(); i++) {
+                int inEdge = inNeighbors.get(i);
+                int u = edgeSource[inEdge];
+
+                double maxDist = 0;
+                for (int j = 0; j < outNeighbors.size(); j++) {
+                    int w = edgeTarget[outNeighbors.get(j)];
+                    if (w != u) {
+                        maxDist = Math.max(maxDist, edgeWeight[inEdge] + edgeWeight[outNeighbors.get(j)]);
+                    }
+                }
+                witnessSearch(u, v, maxDist, simulate ? SIMULATION_SETTLE_LIMIT : WITNESS_SETTLE_LIMIT);
+
+                for (int j = 0; j < outNeighbors.size(); j++) {
+                    int outEdge = outNeighbors.get(j);
+                    int w = edgeTarget[outEdge];
+                    if (w == u) continue;
+
+                    double viaV = edgeWeight[inEdge] + edgeWeight[outEdge];
+                    if (witness.distance(w) <= viaV) continue; // un témoin existe
+
+                    shortcuts++;
+                    if (!simulate) {
+                        addEdge(u, w, viaV, v, inEdge, outEdge);
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Remplit inNeighbors / outNeighbors avec, pour chaque voisin non
+         * contracté de v, l'arête de plus petit poids qui le relie à v.
+         */
+        private void collectNeighbors(int v) {
+            inNeighbors.clear();
+            outNeighbors.clear();
+            collectBest(inEdges[v], v, true, inNeighbors);
+            collectBest(outEdges[v], v, false, outNeighbors);
+        }
+
+        private void collectBest(IntList edges, int v, boolean incoming, IntList result) {
+            stamp++;
+            for (int i = 0; i < edges.size(); i++) {
+                int e = edges.get(i);
+                int other = incoming ? edgeSource[e] : edgeTarget[e];
+                if (other == v || contracted[other]) continue;
+
+                if (bestEdgeStamp[other] != stamp) {
+                    bestEdgeStamp[other] = stamp;
+                    bestEdgeTo[other] = result.size();
+                    result.add(e);
+                } else if (edgeWeight[e] < edgeWeight[result.get(bestEdgeTo[other])]) {
+                    result.set(bestEdgeTo[other], e);
+                }
+            }
+        }
+
+        /**
+         * Dijkstra local depuis u qui évite v, borné par maxDist et par
+         * settleLimit. Les distances trouvées restent dans witness.
+         */
+        private void witnessSearch(int u, int v, double maxDist, int settleLimit) {
+            // Les cibles sont les voisins sortants de v : on s'arrête quand tous sont finalisés
+            targetGeneration++;
+            int remaining = 0;
+            for (int j = 0; j < outNeighbors.size(); j++) {
+                int w = edgeTarget[outNeighbors.get(j)];
+                if (w != u && targetStamp[w] != targetGeneration) {
+                    targetStamp[w] = targetGeneration;
+                    remaining++;
+                }
+            }
+
+            witness.reset();
+            witness.settle(v); // v est exclu de la recherche
+            IndexedHeap heap = witness.heap();
+
+            witness.update(u, 0.0, -1);
+            heap.push(u, 0.0);
+            int settled = 0;
+
+            while (!heap.isEmpty() && remaining > 0 && settled < settleLimit) {
+                if (heap.peekKey() > maxDist) break;
+                int x = heap.poll();
+                witness.settle(x);
+                settled++;
+                if (targetStamp[x] == targetGeneration) {
+                    remaining--;
+                }
+
+                IntList out = outEdges[x];
+                for (int i = 0; i < out.size(); i++) {
+                    int e = out.get(i);
+                    int y = edgeTarget[e];
+                    if (contracted[y] || witness.isSettled(y)) continue;
+
+                    double d = witness.distance(x) + edgeWeight[e];
+                    if (d < witness.distance(y)) {
+                        witness.update(y, d, x);
+                        heap.push(y, d);
+                    }
+                }
+            }
+        }
+
+        private void addEdge(int u, int v, double weight, int via, int first, int second) {
+            if (edgeCount == edgeSource.length) {
+                int capacity = edgeCount * 2;
+                edgeSource = Arrays.copyOf(edgeSource, capacity);
+                edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+                edgeWeight = Arrays.copyOf(edgeWeight, capacity);
+                edgeVia = Arrays.copyOf(edgeVia, capacity);
+                edgeFirst = Arrays.copyOf(edgeFirst, capacity);
+                edgeSecond = Arrays.copyOf(edgeSecond, capacity);
+            }
+            int e = edgeCount++;
+            edgeSource[e] = u;
+            edgeTarget[e] = v;
+            edgeWeight[e] = weight;
+            edgeVia[e] = via;
+            edgeFirst[e] = first;
+            edgeSecond[e] = second;
+            if (u != v) {
+                outEdges[u].add(e);
+                inEdges[v].add(e);
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------
+    // Requêtes
+    // -----------------------------------------------------------------
+
+    /**
+     * Plus court chemin entre deux nœuds.
+     *
+     * @return Même contrat que {@link Dijkstra#dijkstra(Graph, String, String)},
+     * avec en plus "edges" (List<Edge>) : les arêtes d'origine du chemin,
+     * une fois les raccourcis dépliés.
+     */
+    public Map<String, Object> query(String startNodeId, String endNodeId) {
+        int start = graph.idOf(startNodeId);
+        int end = graph.idOf(endNodeId);
+
+        if (start < 0 || end < 0) {
+            System.err.println("Nœud de départ ou d'arrivée introuvable !");
+            return Collections.emptyMap();
+        }
+
+        try (QueryWorkspace forward = QueryWorkspace.acquire(graph.nodeCount());
+             QueryWorkspace backward = QueryWorkspace.acquire(graph.nodeCount())) {
+            int meeting = shortestPath(start, end, forward, backward);
+
+            List<Node> path = new ArrayList<>();
+            List<Edge> edges = new ArrayList<>();
+            if (meeting < 0) {
+                return Map.of("distance", Double.POSITIVE_INFINITY, "path", path, "edges", edges);
+            }
+
+            // Arêtes de la hiérarchie, de start à end
+            IntList chEdges = new IntList();
+            for (int v = meeting; forward.predecessor(v) >= 0; v = edgeSource[forward.predecessor(v)]) {
+                chEdges.add(forward.predecessor(v));
+            }
+            for (int i = 0, j = chEdges.size() - 1; i < j; i++, j--) {
+                int tmp = chEdges.get(i);
+                chEdges.set(i, chEdges.get(j));
+                chEdges.set(j, tmp);
+            }
+            for (int v = meeting; backward.predecessor(v) >= 0; v = edgeTarget[backward.predecessor(v)]) {
+                chEdges.add(backward.predecessor(v));
+            }
+
+            path.add(graph.node(start));
+            IntList stack = new IntList();
+            for (int i = 0; i < chEdges.size(); i++) {
+                unpack(chEdges.get(i), stack, edges, path);
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("path", path);
+            result.put("edges", edges);
+            result.put("distance", forward.distance(meeting) + backward.distance(meeting));
+            return result;
+        }
+    }
+
+    /**
+     * Cœur de la requête : Dijkstra bidirectionnel « montant ».
+     * Les espaces de travail stockent, comme prédécesseur, l'indice de
+     * l'arête de la hiérarchie utilisée pour atteindre chaque nœud.
+     *
+     * @return Le nœud de rencontre, ou -1 s'il n'y a pas de chemin.
+     *         La distance vaut forward.distance(m) + backward.distance(m).
+     */
+    public int shortestPath(int start, int end, QueryWorkspace forward, QueryWorkspace backward) {
+        forward.reset();
+        backward.reset();
+
+        forward.update(start, 0.0, -1);
+        forward.heap().push(start, 0.0);
+        backward.update(end, 0.0, -1);
+        backward.heap().push(end, 0.0);
+
+        double best = Double.POSITIVE_INFINITY;
+        int meeting = -1;
+
+        boolean forwardTurn = true;
+        while (true) {
+            boolean forwardDone = forward.heap().isEmpty() || forward.heap().peekKey() >= best;
+            boolean backwardDone = backward.heap().isEmpty() || backward.heap().peekKey() >= best;
+            if (forwardDone && backwardDone) break;
+
+            // On alterne les deux directions tant qu'elles ont du travail
+            boolean goForward = backwardDone || (!forwardDone && forwardTurn);
+            forwardTurn = !forwardTurn;
+
+            QueryWorkspace ws = goForward ? forward : backward;
+            QueryWorkspace other = goForward ? backward : forward;
+            int u = ws.heap().poll();
+            ws.settle(u);
+            double du = ws.distance(u);
+
+            if (other.isTouched(u) && du + other.distance(u) < best) {
+                best = du + other.distance(u);
+                meeting = u;
+            }
+
+            if (isStalled(u, du, goForward, ws)) continue;
+
+            int[] offsets = goForward ? upOffsets : downOffsets;
+            int[] edges = goForward ? upEdges : downEdges;
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                int e = edges[i];
+                int v = goForward ? edgeTarget[e] : edgeSource[e];
+                double dv = du + edgeWeight[e];
+                if (dv < ws.distance(v)) {
+                    ws.update(v, dv, e);
+                    ws.heap().push(v, dv);
+                }
+            }
+        }
+
+        return meeting;
+    }
+
+    /**
+     * « Stall-on-demand » : si un nœud de rang plus élevé déjà atteint donne
+     * une meilleure distance à u en redescendant, u ne peut pas être sur un
+     * plus court chemin montant et on n'étend pas ses arêtes.
+     */
+    private boolean isStalled(int u, double du, boolean forwardSearch, QueryWorkspace ws) {
+        int[] offsets = forwardSearch ? downOffsets : upOffsets;
+        int[] edges = forwardSearch ? downEdges : upEdges;
+        for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+            int e = edges[i];
+            int x = forwardSearch ? edgeSource[e] : edgeTarget[e];
+            if (ws.distance(x) + edgeWeight[e] < du) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Déplie une arête de la hiérarchie en arêtes d'origine (sans récursion). */
+    private void unpack(int chEdge, IntList stack, List<Edge> edges, List<Node> path) {
+        stack.clear();
+        stack.add(chEdge);
+        while (stack.size() > 0) {
+            int e = stack.get(stack.size() - 1);
+            stack.truncate(stack.size() - 1);
+            if (edgeVia[e] < 0) {
+                edges.add(graph.edge(e));
+                path.add(graph.node(edgeTarget[e]));
+            } else {
+                stack.add(edgeSecond[e]);
+                stack.add(edgeFirst[e]);
+            }
+        }
+    }
+
+    /** Nombre de raccourcis ajoutés par le prétraitement. */
+    public int shortcutCount() {
+        return edgeSource.length - graph.edgeCount();
+    }
+
+    /** Rang de contraction du nœud (0 = contracté en premier). */
+    public int rank(int node) {
+        return rank[node];
+    }
+
+    // -----------------------------------------------------------------
+    // Persistance
+    // -----------------------------------------------------------------
+
+    /**
+     * Sauvegarde le résultat du prétraitement (rangs et raccourcis) dans un fichier binaire,
+     * avec une empreinte des arêtes et des poids du graphe.
+     */
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(graph.nodeCount());
+            out.writeInt(graph.edgeCount());
+            out.writeLong(fingerprint(graph));
+            out.writeInt(edgeSource.length);
+            for (int r : rank) {
+                out.writeInt(r);
+            }
+            // Les arêtes d'origine sont celles du graphe : seuls les raccourcis sont écrits
+            for (int e = graph.edgeCount(); e < edgeSource.length; e++) {
+                out.writeInt(edgeSource[e]);
+                out.writeInt(edgeTarget[e]);
+                out.writeDouble(edgeWeight[e]);
+                out.writeInt(edgeVia[e]);
+                out.writeInt(edgeFirst[e]);
+                out.writeInt(edgeSecond[e]);
+            }
+        }
+    }
+
+    /**
+     * Recharge une hiérarchie sauvegardée par {@link #save(Path)}.
+     *
+     * Le contenu du fichier est vérifié : même graphe (empreinte des arêtes et
+     * des poids, donc une vue {@link CsrGraph#withWeights(double[])} modifiée est
+     * refusée), rangs formant une permutation, raccourcis cohérents.
+     *
+     * @param graph Le graphe qui a servi au prétraitement (mêmes nœuds, mêmes arêtes, mêmes poids).
+     * @throws IOException si le fichier est illisible ou ne correspond pas au graphe.
+     */
+    public static ContractionHierarchy load(CsrGraph graph, Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                throw new IOException("Fichier de hiérarchie invalide : " + file);
+            }
+            int n = in.readInt();
+            int m = in.readInt();
+            if (n != graph.nodeCount() || m != graph.edgeCount()) {
+                throw new IOException("La hiérarchie ne correspond pas au graphe (" + n + " nœuds, " + m + " arêtes)");
+            }
+            if (in.readLong() != fingerprint(graph)) {
+                throw new IOException("La hiérarchie a été calculée pour d'autres arêtes ou d'autres poids");
+            }
+            int edgeCount = in.readInt();
+            // Chaque raccourci occupe 28 octets : on refuse un nombre que le fichier ne peut pas contenir
+            if (edgeCount < m || (long) (edgeCount - m) * 28 > Files.size(file)) {
+                throw new IOException("Nombre d'arêtes invalide : " + edgeCount);
+            }
+
+            int[] rank = new int[n];
+            boolean[] seen = new boolean[n];
+            for (int v = 0; v < n; v++) {
+                int r = in.readInt();
+                if (r < 0 || r >= n || seen[r]) {
+                    throw new IOException("Rangs invalides (nœud " + v + ", rang " + r + ")");
+                }
+                seen[r] = true;
+                rank[v] = r;
+            }
+
+            int[] edgeSource = new int[edgeCount];
+            int[] edgeTarget = new int[edgeCount];
+            double[] edgeWeight = new double[edgeCount];
+            int[] edgeVia = new int[edgeCount];
+            int[] edgeFirst = new int[edgeCount];
+            int[] edgeSecond = new int[edgeCount];
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                    edgeSource[e] = u;
+                    edgeTarget[e] = graph.target(e);
+                    edgeWeight[e] = graph.weight(e);
+                    edgeVia[e] = -1;
+                    edgeFirst[e] = -1;
+                    edgeSecond[e] = -1;
+                }
+            }
+            for (int e = m; e < edgeCount; e++) {
+                int u = in.readInt();
+                int w = in.readInt();
+                double weight = in.readDouble();
+                int via = in.readInt();
+                int first = in.readInt();
+                int second = in.readInt();
+                // Un raccourci u -> w remplace deux arêtes antérieures u -> via -> w
+                if (u < 0 || u >= n || w < 0 || w >= n || via < 0 || via >= n
+                        || first < 0 || first >= e || second < 0 || second >= e
+                        || edgeSource[first] != u || edgeTarget[first] != via
+                        || edgeSource[second] != via || edgeTarget[second] != w) {
+                    throw new IOException("Raccourci invalide : " + e);
+                }
+                edgeSource[e] = u;
+                edgeTarget[e] = w;
+                edgeWeight[e] = weight;
+                edgeVia[e] = via;
+                edgeFirst[e] = first;
+                edgeSecond[e] = second;
+            }
+
+            return new ContractionHierarchy(graph, rank, edgeCount, edgeSource, edgeTarget,
+                    edgeWeight, edgeVia, edgeFirst, edgeSecond);
+        }
+    }
+
+    /** Empreinte des arêtes (source, cible) et des poids du graphe. */
+    private static long fingerprint(CsrGraph graph) {
+        long h = 0x9E3779B97F4A7C15L;
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                h = mix(h ^ (((long) u << 32) | (graph.target(e) & 0xFFFFFFFFL)));
+                h = mix(h ^ Double.doubleToLongBits(graph.weight(e)));
+            }
+        }
+        return h;
+    }
+
+    /** Finaliseur de SplitMix64. */
+    private static long mix(long h) {
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+}
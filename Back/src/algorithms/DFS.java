@@ -23,42 +23,95 @@ public class DFS {
      * Retourne une Map vide si le nœud de départ n'est pas trouvé.
      */
     public static Map<String, Object> dfs(Graph graph, String startNodeId) {
-        List<Node> visitedOrder = new ArrayList<>();
-        List<Edge> treeEdges = new ArrayList<>();
-        Set<Node> visited = new HashSet<>();
-
-        Map<String, Object> results = new HashMap<>();
-        results.put("visitOrder", visitedOrder);
-        results.put("treeEdges", treeEdges);
+        // Parcours itératif sur la vue CSR : même ordre que la récursion sur les Node
+        return dfs(graph.freeze(), startNodeId);
+    }
 
-        Node startNode = graph.getNode(startNodeId);
-        if (startNode == null) {
+    /**
+     * Variante de {@link #dfs(Graph, String)} sur la vue CSR du graphe.
+     * Le résultat est identique à celui de la version sur Graph.
+     */
+    public static Map<String, Object> dfs(CsrGraph graph, String startNodeId) {
+        int start = graph.idOf(startNodeId);
+        if (start < 0) {
             System.err.println("Start node " + startNodeId + " not found!");
-            return results;
+            return TraversalResult.emptyMap();
         }
+        return traversal(graph, start).toMap();
+    }
 
-        // Appeler la nouvelle méthode récursive
-        dfsRecursive(startNode, visited, visitedOrder, treeEdges);
+    /**
+     * Variante typée de {@link #dfs(Graph, String)}.
+     *
+     * @throws IllegalArgumentException si le nœud de départ est introuvable.
+     */
+    public static TraversalResult traversal(Graph graph, String startNodeId) {
+        CsrGraph csr = graph.freeze();
+        return traversal(csr, csr.requireId(startNodeId));
+    }
 
-        return results;
+    /**
+     * Parcours en profondeur sur identifiants denses, sans Map ni liste
+     * d'objets (voir {@link #traverse(CsrGraph, int, int[], int[])}).
+     */
+    public static TraversalResult traversal(CsrGraph graph, int start) {
+        int[] order = new int[graph.nodeCount()];
+        int[] tree = new int[graph.nodeCount()];
+        int count = traverse(graph, start, order, tree);
+        return new TraversalResult(graph, order, count, tree);
     }
 
     /**
-     * Méthode récursive privée pour le parcours DFS,
-     * qui construit aussi l'arbre couvrant.
+     * Cœur itératif du parcours en profondeur, sur identifiants denses.
+     *
+     * La pile explicite remplace la pile d'appels : elle contient le chemin
+     * depuis la racine, et cursor[u] retient la prochaine arête de u à
+     * examiner, exactement là où la récursion aurait repris. L'ordre de
+     * visite et les arêtes d'arbre sont donc ceux de la version récursive,
+     * sans risque de StackOverflowError sur les longues chaînes.
+     *
+     * @param graph     La vue CSR.
+     * @param start     Identifiant du nœud de départ.
+     * @param order     Reçoit les nœuds dans l'ordre de visite (taille >= nodeCount).
+     * @param treeEdges Reçoit les indices CSR des arêtes d'arbre, dans l'ordre de découverte.
+     * @return Le nombre de nœuds visités (il y a une arête d'arbre de moins).
      */
-    private static void dfsRecursive(Node currentNode, Set<Node> visited, List<Node> visitedOrder, List<Edge> treeEdges) {
-        visited.add(currentNode);
-        visitedOrder.add(currentNode);
+    public static int traverse(CsrGraph graph, int start, int[] order, int[] treeEdges) {
+        int n = graph.nodeCount();
+        long[] visited = new long[(n + 63) >>> 6];
+        int[] stack = new int[n];
+        int[] cursor = new int[n];
 
-        for (Edge edge : currentNode.getEdges()) {
-            Node neighbor = edge.getTarget();
-            if (!visited.contains(neighbor)) {
-                // Cette arête est utilisée pour découvrir un nouveau nœud
-                treeEdges.add(edge); // <-- NOUVEAU
-                // Récursion
-                dfsRecursive(neighbor, visited, visitedOrder, treeEdges);
+        int visitedCount = 0;
+        int treeCount = 0;
+        int depth = 0;
+
+        visited[start >>> 6] |= 1L << start;
+        order[visitedCount++] = start;
+        cursor[start] = graph.firstEdge(start);
+        stack[depth++] = start;
+
+        while (depth > 0) {
+            int current = stack[depth - 1];
+            int end = graph.endEdge(current);
+            int e = cursor[current];
+            while (e < end && (visited[graph.target(e) >>> 6] & (1L << graph.target(e))) != 0) {
+                e++;
             }
+            if (e == end) {
+                depth--; // toutes les arêtes de current sont traitées : retour arrière
+                continue;
+            }
+
+            // Cette arête est utilisée pour découvrir un nouveau nœud
+            cursor[current] = e + 1;
+            int neighbor = graph.target(e);
+            visited[neighbor >>> 6] |= 1L << neighbor;
+            order[visitedCount++] = neighbor;
+            treeEdges[treeCount++] = e;
+            cursor[neighbor] = graph.firstEdge(neighbor);
+            stack[depth++] = neighbor;
         }
+        return visitedCount;
     }
 }
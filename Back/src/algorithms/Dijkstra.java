@@ -5,27 +5,6 @@ import java.util.*;
 
 public class Dijkstra {
 
-    /**
-     * Classe interne pour aider la file de priorité de Dijkstra.
-     * Elle stocke un nœud et sa distance actuelle depuis le début.
-     */
-    private static class NodeEntry implements Comparable<NodeEntry> {
-        Node node;
-        double distance;
-
-        NodeEntry(Node node, double distance) {
-            this.node = node;
-            this.distance = distance;
-        }
-
-        @Override
-        public int compareTo(NodeEntry other) {
-            // Compare les distances pour que la PriorityQueue
-            // retourne toujours le nœud avec la plus petite distance.
-            return Double.compare(this.distance, other.distance);
-        }
-    }
-
     /**
      * Implémente l'algorithme de Dijkstra pour trouver le plus court chemin
      * entre deux nœuds dans un graphe pondéré (avec poids positifs).
@@ -40,94 +19,325 @@ public class Dijkstra {
      *
      * Retourne une carte vide ou un chemin vide si les nœuds sont introuvables
      * ou si aucun chemin n'existe.
+     *
+     * Adaptateur vers {@link #route(CsrGraph, int, int)} qui conserve le
+     * format de retour historique. La vue CSR est celle que le graphe garde
+     * en cache (voir {@link Graph#freeze()}) et l'état de la recherche vient
+     * du pool de QueryWorkspace : un appel ne coûte que les nœuds touchés.
      */
     public static Map<String, Object> dijkstra(Graph graph, String startNodeId, String endNodeId) {
-        Node startNode = graph.getNode(startNodeId);
-        Node endNode = graph.getNode(endNodeId);
+        return dijkstra(graph.freeze(), startNodeId, endNodeId);
+    }
+
+    /**
+     * Variante de {@link #dijkstra(Graph, String, String)} sur la vue CSR du graphe.
+     *
+     * Moteur sans allocation par arête : distances et prédécesseurs dans des
+     * tableaux primitifs, et un tas indexé avec diminution de clé au lieu
+     * d'une PriorityQueue à suppression paresseuse. Même contrat de retour
+     * que la version sur Graph.
+     */
+    public static Map<String, Object> dijkstra(CsrGraph graph, String startNodeId, String endNodeId) {
+        int start = graph.idOf(startNodeId);
+        int end = graph.idOf(endNodeId);
 
-        if (startNode == null || endNode == null) {
+        if (start < 0 || end < 0) {
             System.err.println("Nœud de départ ou d'arrivée introuvable !");
             return Collections.emptyMap();
         }
+        return route(graph, start, end).toMap();
+    }
 
-        // 1. Structures de données
-        // Stocke la distance la plus courte trouvée jusqu'à présent pour chaque nœud
-        Map<Node, Double> distances = new HashMap<>();
-        // Stocke le "prédécesseur" de chaque nœud dans le chemin le plus court
-        Map<Node, Node> predecessors = new HashMap<>();
-        // File de priorité pour extraire le nœud non visité avec la plus petite distance
-        PriorityQueue<NodeEntry> pq = new PriorityQueue<>();
-        // Ensemble des nœuds dont le chemin le plus court est déjà finalisé
-        Set<Node> visited = new HashSet<>();
-
-        // 2. Initialisation
-        for (Node node : graph.getNodes()) {
-            distances.put(node, Double.POSITIVE_INFINITY);
+    /**
+     * Variante typée de {@link #dijkstra(Graph, String, String)}.
+     *
+     * @throws IllegalArgumentException si un nœud est introuvable.
+     */
+    public static ShortestPathResult route(Graph graph, String startNodeId, String endNodeId) {
+        CsrGraph csr = graph.freeze();
+        return route(csr, csr.requireId(startNodeId), csr.requireId(endNodeId));
+    }
+
+    /**
+     * Plus court chemin de start à end, sans Map ni boxing : seul le chemin
+     * trouvé est copié hors de l'espace de travail.
+     */
+    public static ShortestPathResult route(CsrGraph graph, int start, int end) {
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            shortestPath(graph, start, end, ws);
+            return ShortestPathResult.from(graph, start, end, ws);
         }
-        distances.put(startNode, 0.0); // La distance au départ est 0
-        pq.add(new NodeEntry(startNode, 0.0));
-
-        // 3. Boucle principale de Dijkstra
-        while (!pq.isEmpty()) {
-            NodeEntry currentEntry = pq.poll();
-            Node currentNode = currentEntry.node;
-
-            // Si ce nœud a déjà été finalisé, on l'ignore
-            // (cela gère les entrées obsolètes dans la file)
-            if (visited.contains(currentNode)) {
-                continue;
-            }
+    }
+
+    /**
+     * Distances et prédécesseurs de tous les nœuds depuis start.
+     *
+     * @throws IllegalArgumentException si le nœud de départ est introuvable.
+     */
+    public static SingleSourceResult singleSource(Graph graph, String startNodeId) {
+        CsrGraph csr = graph.freeze();
+        return singleSource(csr, csr.requireId(startNodeId));
+    }
+
+    /** Variante de {@link #singleSource(Graph, String)} sur identifiants denses. */
+    public static SingleSourceResult singleSource(CsrGraph graph, int start) {
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            shortestPath(graph, start, -1, ws);
+            return SingleSourceResult.from(graph, start, ws);
+        }
+    }
+
+    /**
+     * Cœur de Dijkstra sur identifiants denses, pour les appelants qui
+     * enchaînent les requêtes : tout l'état vit dans l'espace de travail,
+     * qui est réinitialisé en O(nœuds touchés) au lieu de O(V).
+     *
+     * @param graph La vue CSR.
+     * @param start Identifiant du nœud de départ.
+     * @param end   Identifiant du nœud d'arrivée, ou -1 pour tout explorer.
+     * @param ws    Espace de travail ; distances et prédécesseurs y restent lisibles après l'appel.
+     * @return La distance jusqu'à end (infinie si inaccessible ou si end vaut -1).
+     */
+    public static double shortestPath(CsrGraph graph, int start, int end, QueryWorkspace ws) {
+        ws.reset();
+        IndexedHeap heap = ws.heap();
 
-            // Finaliser ce nœud
-            visited.add(currentNode);
+        ws.update(start, 0.0, -1);
+        heap.push(start, 0.0);
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            ws.settle(current);
 
             // Optimisation : si on a atteint la destination, on peut s'arrêter
-            if (currentNode == endNode) {
+            if (current == end) {
                 break;
             }
 
-            // 4. "Relâcher" les voisins
-            for (Edge edge : currentNode.getEdges()) {
-                Node neighbor = edge.getTarget();
-
-                // Ne pas traiter les nœuds déjà finalisés
-                if (visited.contains(neighbor)) {
+            double currentDist = ws.distance(current);
+            for (int e = graph.firstEdge(current); e < graph.endEdge(current); e++) {
+                int neighbor = graph.target(e);
+                if (ws.isSettled(neighbor)) {
                     continue;
                 }
 
-                double newDist = distances.get(currentNode) + edge.getWeight();
+                double newDist = currentDist + graph.weight(e);
+                if (newDist < ws.distance(neighbor)) {
+                    ws.update(neighbor, newDist, current);
+                    heap.push(neighbor, newDist);
+                }
+            }
+        }
+
+        return end < 0 ? Double.POSITIVE_INFINITY : ws.distance(end);
+    }
+
+    /**
+     * Dijkstra multi-sources : le tas est initialisé avec toutes les sources
+     * à distance 0, et chaque nœud hérite de la source de son prédécesseur.
+     * Une seule recherche donne, pour chaque nœud, la distance à la source la
+     * plus proche et cette source (partition de Voronoï du graphe), au lieu
+     * d'une recherche par source.
+     *
+     * @param graph     Le graphe sur lequel chercher.
+     * @param sourceIds Les nœuds sources (ex: les dépôts).
+     * @return Une Map contenant :
+     * - "distances" (Map<Node, Double>): Distance à la source la plus proche (infinie si aucune n'atteint le nœud).
+     * - "owners" (Map<Node, Node>): La source la plus proche de chaque nœud atteint.
+     * - "predecessors" (Map<Node, Node>): Le prédécesseur sur le chemin depuis cette source.
+     */
+    public static Map<String, Object> multiSource(Graph graph, Collection<String> sourceIds) {
+        return multiSource(graph.freeze(), sourceIds);
+    }
+
+    /**
+     * Variante de {@link #multiSource(Graph, Collection)} sur la vue CSR du graphe.
+     */
+    public static Map<String, Object> multiSource(CsrGraph graph, Collection<String> sourceIds) {
+        int[] sources = graph.idsOf(sourceIds);
+        int[] owners = new int[graph.nodeCount()];
+
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            multiSourceShortestPaths(graph, sources, ws, owners);
+
+            Map<Node, Double> distances = new HashMap<>();
+            Map<Node, Node> ownerNodes = new HashMap<>();
+            Map<Node, Node> predecessors = new HashMap<>();
+            for (int v = 0; v < graph.nodeCount(); v++) {
+                distances.put(graph.node(v), ws.distance(v));
+            }
+            for (int t = 0; t < ws.touchedCount(); t++) {
+                int v = ws.touched(t);
+                ownerNodes.put(graph.node(v), graph.node(owners[v]));
+                if (ws.predecessor(v) >= 0) {
+                    predecessors.put(graph.node(v), graph.node(ws.predecessor(v)));
+                }
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("distances", distances);
+            result.put("owners", ownerNodes);
+            result.put("predecessors", predecessors);
+            return result;
+        }
+    }
+
+    /**
+     * Cœur de Dijkstra multi-sources sur identifiants denses.
+     *
+     * À distance égale, un nœud revient à la source finalisée la première.
+     *
+     * @param graph   La vue CSR.
+     * @param sources Identifiants des sources (les doublons sont sans effet).
+     * @param ws      Espace de travail ; distances et prédécesseurs y restent lisibles après l'appel.
+     * @param owners  Reçoit, pour chaque nœud touché, l'identifiant de sa source.
+     */
+    public static void multiSourceShortestPaths(CsrGraph graph, int[] sources, QueryWorkspace ws, int[] owners) {
+        ws.reset();
+        IndexedHeap heap = ws.heap();
+
+        for (int source : sources) {
+            if (!ws.isTouched(source)) {
+                ws.update(source, 0.0, -1);
+                owners[source] = source;
+                heap.push(source, 0.0);
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            ws.settle(current);
 
-                // Si on a trouvé un chemin plus court vers ce voisin
-                if (newDist < distances.get(neighbor)) {
-                    distances.put(neighbor, newDist);
-                    predecessors.put(neighbor, currentNode);
-                    // Ajouter le voisin à la file avec sa nouvelle distance
-                    pq.add(new NodeEntry(neighbor, newDist));
+            double currentDist = ws.distance(current);
+            for (int e = graph.firstEdge(current); e < graph.endEdge(current); e++) {
+                int neighbor = graph.target(e);
+                if (ws.isSettled(neighbor)) {
+                    continue;
+                }
+
+                double newDist = currentDist + graph.weight(e);
+                if (newDist < ws.distance(neighbor)) {
+                    ws.update(neighbor, newDist, current);
+                    owners[neighbor] = owners[current];
+                    heap.push(neighbor, newDist);
                 }
             }
         }
+    }
+
+    /**
+     * Variante de {@link #bidirectional(CsrGraph, String, String)} sur Graph,
+     * par la vue CSR que le graphe garde en cache (voir {@link Graph#freeze()}).
+     */
+    public static Map<String, Object> bidirectional(Graph graph, String startNodeId, String endNodeId) {
+        return bidirectional(graph.freeze(), startNodeId, endNodeId);
+    }
+
+    /**
+     * Dijkstra bidirectionnel pour une requête point à point.
+     *
+     * Une recherche part de la source sur le graphe, une autre part de la
+     * destination sur le graphe transposé ({@link CsrGraph#reverse()}). On
+     * fait avancer à chaque tour celle dont le tas a la plus petite clé, et
+     * on s'arrête dès que la somme des deux plus petites clés dépasse le
+     * meilleur chemin déjà trouvé. Sur un réseau routier, chaque recherche
+     * ne couvre qu'un « disque » de rayon moitié : on finalise environ deux
+     * fois moins de nœuds qu'avec {@link #dijkstra(CsrGraph, String, String)}.
+     *
+     * Même contrat de retour que dijkstra (poids positifs uniquement).
+     */
+    public static Map<String, Object> bidirectional(CsrGraph graph, String startNodeId, String endNodeId) {
+        int start = graph.idOf(startNodeId);
+        int end = graph.idOf(endNodeId);
+
+        if (start < 0 || end < 0) {
+            System.err.println("Nœud de départ ou d'arrivée introuvable !");
+            return Collections.emptyMap();
+        }
+
+        try (QueryWorkspace forward = QueryWorkspace.acquire(graph.nodeCount());
+             QueryWorkspace backward = QueryWorkspace.acquire(graph.nodeCount())) {
+            int meeting = bidirectionalShortestPath(graph, start, end, forward, backward);
+
+            List<Node> path = new ArrayList<>();
+            if (meeting < 0) {
+                return Map.of("distance", Double.POSITIVE_INFINITY, "path", path); // Pas de chemin
+            }
 
-        // 5. Reconstruction du chemin
-        List<Node> path = new ArrayList<>();
-        Node step = endNode;
+            // Moitié avant : remonter de la rencontre vers le départ
+            for (int step = meeting; step >= 0; step = forward.predecessor(step)) {
+                path.add(graph.node(step));
+            }
+            Collections.reverse(path);
+            // Moitié arrière : le prédécesseur « arrière » est le nœud suivant vers l'arrivée
+            for (int step = backward.predecessor(meeting); step >= 0; step = backward.predecessor(step)) {
+                path.add(graph.node(step));
+            }
 
-        // Si le nœud d'arrivée n'a pas de prédécesseur (et n'est pas le départ),
-        // alors aucun chemin n'a été trouvé.
-        if (predecessors.get(step) == null && step != startNode) {
-            return Map.of("distance", Double.POSITIVE_INFINITY, "path", path); // Pas de chemin
+            Map<String, Object> result = new HashMap<>();
+            result.put("path", path);
+            result.put("distance", forward.distance(meeting) + backward.distance(meeting));
+            return result;
         }
+    }
+
+    /**
+     * Cœur du Dijkstra bidirectionnel sur identifiants denses.
+     *
+     * @param forward  Espace de la recherche avant (prédécesseurs vers start).
+     * @param backward Espace de la recherche arrière (prédécesseurs vers end).
+     * @return Le nœud de rencontre du plus court chemin, ou -1 s'il n'y a pas de chemin.
+     *         La distance vaut forward.distance(m) + backward.distance(m).
+     */
+    public static int bidirectionalShortestPath(CsrGraph graph, int start, int end, QueryWorkspace forward, QueryWorkspace backward) {
+        CsrGraph reverse = graph.reverse();
+        forward.reset();
+        backward.reset();
 
-        // Remonter les prédécesseurs depuis l'arrivée
-        while (step != null) {
-            path.add(step);
-            step = predecessors.get(step);
+        forward.update(start, 0.0, -1);
+        forward.heap().push(start, 0.0);
+        backward.update(end, 0.0, -1);
+        backward.heap().push(end, 0.0);
+
+        double best = start == end ? 0.0 : Double.POSITIVE_INFINITY;
+        int meeting = start == end ? start : -1;
+
+        while (!forward.heap().isEmpty() && !backward.heap().isEmpty()) {
+            // Critère d'arrêt : aucun chemin passant par un nœud non finalisé ne peut faire mieux
+            if (forward.heap().peekKey() + backward.heap().peekKey() >= best) {
+                break;
+            }
+
+            boolean goForward = forward.heap().peekKey() <= backward.heap().peekKey();
+            CsrGraph side = goForward ? graph : reverse;
+            QueryWorkspace ws = goForward ? forward : backward;
+            QueryWorkspace other = goForward ? backward : forward;
+
+            int current = ws.heap().poll();
+            ws.settle(current);
+
+            double currentDist = ws.distance(current);
+            for (int e = side.firstEdge(current); e < side.endEdge(current); e++) {
+                int neighbor = side.target(e);
+                if (ws.isSettled(neighbor)) {
+                    continue;
+                }
+
+                double newDist = currentDist + side.weight(e);
+                if (newDist < ws.distance(neighbor)) {
+                    ws.update(neighbor, newDist, current);
+                    ws.heap().push(neighbor, newDist);
+
+                    // Les deux recherches se touchent en neighbor
+                    double candidate = newDist + other.distance(neighbor);
+                    if (candidate < best) {
+                        best = candidate;
+                        meeting = neighbor;
+                    }
+                }
+            }
         }
-        Collections.reverse(path); // Mettre le chemin dans le bon ordre (départ -> arrivée)
 
-        // 6. Retourner le résultat
-        Map<String, Object> result = new HashMap<>();
-        result.put("path", path);
-        result.put("distance", distances.get(endNode));
-        return result;
+        return meeting;
     }
 }
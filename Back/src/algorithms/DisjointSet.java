@@ -0,0 +1,72 @@
+package algorithms;
+
+/**
+ * Union-Find (ensembles disjoints) sur des identifiants entiers 0..size-1.
+ *
+ * Union par rang et compression par moitié itérative : les arbres restent de
+ * hauteur logarithmique et find ne fait jamais de récursion, même sur de
+ * très longues chaînes. Pour des unions depuis plusieurs threads, voir
+ * {@link ConcurrentDisjointSet}.
+ */
+public final class DisjointSet {
+    private final int[] parent;
+    private final byte[] rank; // majorant de la hauteur de l'arbre de chaque racine
+    private int count;
+
+    /** Crée size singletons {0}, {1}, ..., {size-1}. */
+    public DisjointSet(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        count = size;
+    }
+
+    /** Nombre d'éléments. */
+    public int size() {
+        return parent.length;
+    }
+
+    /** Nombre d'ensembles distincts. */
+    public int count() {
+        return count;
+    }
+
+    /** @return Le représentant de l'ensemble de x. */
+    public int find(int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]]; // compression par moitié
+            x = parent[x];
+        }
+        return x;
+    }
+
+    public boolean connected(int a, int b) {
+        return find(a) == find(b);
+    }
+
+    /**
+     * Réunit les ensembles de a et de b.
+     *
+     * @return true si a et b étaient dans deux ensembles différents.
+     */
+    public boolean union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return false;
+        }
+        // L'arbre le moins haut est rattaché sous l'autre
+        if (rank[rootA] < rank[rootB]) {
+            parent[rootA] = rootB;
+        } else if (rank[rootA] > rank[rootB]) {
+            parent[rootB] = rootA;
+        } else {
+            parent[rootB] = rootA;
+            rank[rootA]++;
+        }
+        count--;
+        return true;
+    }
+}
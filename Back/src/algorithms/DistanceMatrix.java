@@ -0,0 +1,186 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Node;
+
+import java.util.*;
+
+/**
+ * Matrice des plus courts chemins entre toutes les paires de nœuds,
+ * stockée à plat (ligne par ligne) dans un double[] de taille n * n.
+ * Les indices sont les identifiants denses du CsrGraph d'origine.
+ *
+ * Une distance Double.NEGATIVE_INFINITY signifie que le chemin peut passer
+ * par un cycle de poids négatif : il n'y a alors pas de plus court chemin.
+ * Si la matrice des successeurs a été calculée, {@link #path(int, int)}
+ * reconstruit n'importe quel itinéraire sans nouvelle recherche.
+ */
+public final class DistanceMatrix {
+    private final CsrGraph graph;
+    private final int n;
+    private final double[] distances;
+    private final int[] next; // next[i * n + j] = nœud suivant i sur le chemin vers j, ou -1
+
+    DistanceMatrix(CsrGraph graph, double[] distances, int[] next) {
+        this.graph = graph;
+        this.n = graph.nodeCount();
+        this.distances = distances;
+        this.next = next;
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Distance de i à j : +infini s'il n'y a pas de chemin,
+     * -infini si le chemin peut emprunter un cycle négatif.
+     */
+    public double distance(int i, int j) {
+        return distances[i * n + j];
+    }
+
+    /** Distance entre deux nœuds désignés par leur nom. */
+    public double distance(String sourceId, String targetId) {
+        int i = graph.idOf(sourceId);
+        int j = graph.idOf(targetId);
+        if (i < 0 || j < 0) {
+            throw new IllegalArgumentException("Nœud introuvable : " + (i < 0 ? sourceId : targetId));
+        }
+        return distance(i, j);
+    }
+
+    /** @return true si la matrice des successeurs a été calculée. */
+    public boolean hasPaths() {
+        return next != null;
+    }
+
+    /** @return true si le graphe contient au moins un cycle de poids négatif. */
+    public boolean hasNegativeCycle() {
+        for (int i = 0; i < n; i++) {
+            if (distances[i * n + i] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return Les nœuds situés sur un cycle de poids négatif (diagonale négative). */
+    public int[] negativeCycleNodes() {
+        int count = 0;
+        int[] nodes = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distances[i * n + i] < 0) {
+                nodes[count++] = i;
+            }
+        }
+        return Arrays.copyOf(nodes, count);
+    }
+
+    /**
+     * @return Les nœuds qui sont sur un cycle négatif ou accessibles depuis l'un
+     * d'eux : leur distance depuis un tel cycle n'est pas définie.
+     */
+    public int[] nodesReachableFromNegativeCycles() {
+        boolean[] reached = new boolean[n];
+        for (int k : negativeCycleNodes()) {
+            for (int j = 0; j < n; j++) {
+                if (distances[k * n + j] == Double.NEGATIVE_INFINITY) {
+                    reached[j] = true;
+                }
+            }
+        }
+        int count = 0;
+        int[] nodes = new int[n];
+        for (int j = 0; j < n; j++) {
+            if (reached[j]) {
+                nodes[count++] = j;
+            }
+        }
+        return Arrays.copyOf(nodes, count);
+    }
+
+    /** @return true si un chemin de i à j peut passer par un cycle négatif. */
+    public boolean isAffectedByNegativeCycle(int i, int j) {
+        return distances[i * n + j] == Double.NEGATIVE_INFINITY;
+    }
+
+    /**
+     * @return Le nœud qui suit i sur le plus court chemin vers j,
+     * ou -1 s'il n'y a pas de chemin (ou pas de plus court chemin).
+     */
+    public int successor(int i, int j) {
+        requirePaths();
+        return next[i * n + j];
+    }
+
+    /**
+     * Reconstruit le plus court chemin de i à j à partir de la matrice des successeurs.
+     *
+     * @return Les identifiants des nœuds, de i à j inclus ; un tableau vide s'il n'y a pas de chemin.
+     * @throws IllegalStateException si les successeurs n'ont pas été calculés, ou si
+     *                               le chemin peut passer par un cycle négatif.
+     */
+    public int[] path(int i, int j) {
+        requirePaths();
+        if (isAffectedByNegativeCycle(i, j)) {
+            throw new IllegalStateException("Pas de plus court chemin de " + graph.nameOf(i)
+                    + " à " + graph.nameOf(j) + " : cycle de poids négatif");
+        }
+        if (next[i * n + j] < 0) {
+            return new int[0];
+        }
+
+        int[] path = new int[n];
+        int length = 0;
+        for (int step = i; step != j; step = next[step * n + j]) {
+            path[length++] = step;
+        }
+        path[length++] = j;
+        return Arrays.copyOf(path, length);
+    }
+
+    /**
+     * Variante de {@link #path(int, int)} par noms de nœuds.
+     *
+     * @return La liste des nœuds du chemin (vide s'il n'y a pas de chemin).
+     */
+    public List<Node> path(String sourceId, String targetId) {
+        int i = graph.idOf(sourceId);
+        int j = graph.idOf(targetId);
+        if (i < 0 || j < 0) {
+            throw new IllegalArgumentException("Nœud introuvable : " + (i < 0 ? sourceId : targetId));
+        }
+        List<Node> path = new ArrayList<>();
+        for (int id : path(i, j)) {
+            path.add(graph.node(id));
+        }
+        return path;
+    }
+
+    private void requirePaths() {
+        if (next == null) {
+            throw new IllegalStateException("La matrice des successeurs n'a pas été calculée");
+        }
+    }
+
+    /**
+     * Convertit la matrice au format historique de FloydWarshall.floydWarshall :
+     * ID source -> (ID destination -> coût du plus court chemin).
+     */
+    public Map<String, Map<String, Double>> toMap() {
+        Map<String, Map<String, Double>> result = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            Map<String, Double> innerMap = new HashMap<>();
+            for (int j = 0; j < n; j++) {
+                innerMap.put(graph.nameOf(j), distances[i * n + j]);
+            }
+            result.put(graph.nameOf(i), innerMap);
+        }
+        return result;
+    }
+}
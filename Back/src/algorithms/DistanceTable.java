@@ -0,0 +1,169 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Graph;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Table des distances de plusieurs sources vers plusieurs destinations
+ * (un-vers-plusieurs ou plusieurs-vers-plusieurs), pour alimenter un
+ * solveur de tournées.
+ *
+ * Au lieu de S x T recherches point à point, on lance une seule recherche
+ * par source, arrêtée dès que toutes les destinations sont finalisées, et
+ * les sources sont réparties en parallèle sur un ForkJoinPool. Le résultat
+ * est une matrice compacte double[S * T], ligne par ligne.
+ */
+public final class DistanceTable {
+    // Nombre de sources traitées par tâche parallèle
+    private static final int SOURCES_PER_TASK = 2;
+
+    private final CsrGraph graph;
+    private final int[] sources;
+    private final int[] targets;
+    private final double[] distances; // distances[i * targets.length + j]
+
+    private DistanceTable(CsrGraph graph, int[] sources, int[] targets, double[] distances) {
+        this.graph = graph;
+        this.sources = sources;
+        this.targets = targets;
+        this.distances = distances;
+    }
+
+    /**
+     * Variante de {@link #compute(CsrGraph, Collection, Collection)} sur un Graph.
+     */
+    public static DistanceTable compute(Graph graph, Collection<String> sourceIds, Collection<String> targetIds) {
+        return compute(graph.freeze(), sourceIds, targetIds);
+    }
+
+    /**
+     * Calcule la table pour des nœuds désignés par leur nom.
+     *
+     * @throws IllegalArgumentException si un nom ne correspond à aucun nœud.
+     */
+    public static DistanceTable compute(CsrGraph graph, Collection<String> sourceIds, Collection<String> targetIds) {
+        return compute(graph, graph.idsOf(sourceIds), graph.idsOf(targetIds));
+    }
+
+    /** Calcule la table sur le pool commun. */
+    public static DistanceTable compute(CsrGraph graph, int[] sources, int[] targets) {
+        return compute(graph, sources, targets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcule les distances de chaque source vers chaque destination
+     * (poids positifs uniquement, comme Dijkstra).
+     *
+     * @param sources Identifiants des sources (lignes de la table).
+     * @param targets Identifiants des destinations (colonnes) ; les doublons sont permis.
+     * @param pool    Le ForkJoinPool sur lequel répartir les sources.
+     */
+    public static DistanceTable compute(CsrGraph graph, int[] sources, int[] targets, ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        if ((long) sources.length * targets.length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Table trop grande : " + sources.length + " x " + targets.length);
+        }
+
+        // Marquer les destinations distinctes, partagées en lecture par toutes les recherches
+        boolean[] isTarget = new boolean[n];
+        int distinctTargets = 0;
+        for (int t : targets) {
+            if (!isTarget[t]) {
+                isTarget[t] = true;
+                distinctTargets++;
+            }
+        }
+        int targetCount = distinctTargets;
+
+        int columns = targets.length;
+        double[] distances = new double[sources.length * columns];
+        Parallel.forRange(pool, 0, sources.length, SOURCES_PER_TASK, (from, to) -> {
+            try (QueryWorkspace ws = QueryWorkspace.acquire(n)) {
+                for (int i = from; i < to; i++) {
+                    search(graph, sources[i], isTarget, targetCount, ws);
+                    int row = i * columns;
+                    for (int j = 0; j < columns; j++) {
+                        distances[row + j] = ws.distance(targets[j]);
+                    }
+                }
+            }
+        });
+
+        return new DistanceTable(graph, sources.clone(), targets.clone(), distances);
+    }
+
+    /**
+     * Dijkstra depuis source, arrêté dès que les targetCount destinations
+     * marquées dans isTarget sont finalisées.
+     */
+    private static void search(CsrGraph graph, int source, boolean[] isTarget, int targetCount, QueryWorkspace ws) {
+        ws.reset();
+        if (targetCount == 0) {
+            return;
+        }
+        IndexedHeap heap = ws.heap();
+
+        ws.update(source, 0.0, -1);
+        heap.push(source, 0.0);
+
+        int remaining = targetCount;
+        while (!heap.isEmpty()) {
+            int current = heap.poll();
+            ws.settle(current);
+
+            if (isTarget[current] && --remaining == 0) {
+                break;
+            }
+
+            double currentDist = ws.distance(current);
+            for (int e = graph.firstEdge(current); e < graph.endEdge(current); e++) {
+                int neighbor = graph.target(e);
+                if (ws.isSettled(neighbor)) {
+                    continue;
+                }
+
+                double newDist = currentDist + graph.weight(e);
+                if (newDist < ws.distance(neighbor)) {
+                    ws.update(neighbor, newDist, current);
+                    heap.push(neighbor, newDist);
+                }
+            }
+        }
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    /** Nombre de sources (lignes). */
+    public int rows() {
+        return sources.length;
+    }
+
+    /** Nombre de destinations (colonnes). */
+    public int columns() {
+        return targets.length;
+    }
+
+    public int source(int i) {
+        return sources[i];
+    }
+
+    public int target(int j) {
+        return targets[j];
+    }
+
+    /** Distance de la i-ème source à la j-ème destination (infinie si inaccessible). */
+    public double distance(int i, int j) {
+        return distances[i * targets.length + j];
+    }
+
+    /** @return Une copie de la table, ligne par ligne : case i * columns() + j. */
+    public double[] toArray() {
+        return Arrays.copyOf(distances, distances.length);
+    }
+}
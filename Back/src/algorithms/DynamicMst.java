@@ -0,0 +1,525 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Edge;
+import models.Graph;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Forêt couvrante de poids minimum maintenue au fil des modifications du
+ * graphe : ajout et suppression d'arêtes, changement de poids.
+ *
+ * Au lieu de relancer Kruskal à chaque changement, l'arbre est réparé
+ * localement :
+ * - une arête qui entre (ou dont le poids baisse) remplace l'arête la plus
+ *   lourde du cycle qu'elle fermerait dans l'arbre, si elle est plus légère
+ *   (propriété du cycle) ;
+ * - une arête de l'arbre qui sort (ou dont le poids monte) coupe sa
+ *   composante en deux ; on la remplace par l'arête la plus légère qui relie
+ *   les deux morceaux (propriété de la coupe), cherchée depuis le plus petit.
+ * Les autres changements ne modifient pas l'arbre.
+ *
+ * Les arêtes de même poids sont départagées par leur identifiant : l'arbre
+ * est alors unique, et identique à celui de {@link Kruskal} recalculé sur
+ * les arêtes courantes rangées par identifiant. Les chemins et composantes
+ * sont parcourus dans l'arbre lui-même, sans structure auxiliaire : chaque
+ * opération coûte au pire la taille de la composante touchée, au lieu d'un
+ * tri de toutes les arêtes.
+ */
+public final class DynamicMst {
+    private final CsrGraph graph; // null si la structure est créée vide
+    private final int n;
+
+    // Arêtes, par identifiant
+    private int edgeCount;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+    private boolean[] alive;
+    private boolean[] inTree;
+    private Edge[] originals; // arête du Graph d'origine, ou null
+    private final Map<Edge, Integer> ids = new IdentityHashMap<>();
+    private int aliveCount;
+    private int treeSize;
+
+    // Arêtes de l'arbre et autres arêtes incidentes à chaque nœud (listes créées au besoin)
+    private final IntList[] treeAdj;
+    private final IntList[] otherAdj;
+
+    // Espace de travail des parcours
+    private final int[] marks;
+    private final int[] parentEdges;
+    private final int[] queueA;
+    private final int[] queueB;
+    private int stamp;
+
+    /** Crée une forêt vide (nodeCount nœuds isolés, aucune arête). */
+    public DynamicMst(int nodeCount) {
+        this(null, nodeCount);
+    }
+
+    private DynamicMst(CsrGraph graph, int nodeCount) {
+        if (nodeCount < 0) {
+            throw new IllegalArgumentException("Nombre de nœuds négatif : " + nodeCount);
+        }
+        this.graph = graph;
+        this.n = nodeCount;
+        this.sources = new int[4];
+        this.targets = new int[4];
+        this.weights = new double[4];
+        this.alive = new boolean[4];
+        this.inTree = new boolean[4];
+        this.originals = new Edge[4];
+        this.treeAdj = new IntList[nodeCount];
+        this.otherAdj = new IntList[nodeCount];
+        this.marks = new int[nodeCount];
+        this.parentEdges = new int[nodeCount];
+        this.queueA = new int[nodeCount];
+        this.queueB = new int[nodeCount];
+    }
+
+    /**
+     * Variante de {@link #of(CsrGraph)} sur un Graph.
+     */
+    public static DynamicMst of(Graph graph) {
+        return of(graph.freeze());
+    }
+
+    /**
+     * Construit la forêt initiale avec Kruskal. Chaque route non dirigée
+     * reçoit un seul identifiant ; les identifiants suivent l'ordre CSR
+     * (celui de getAllEdges()), donc l'arbre initial est celui de
+     * {@link Kruskal#traverse(CsrGraph)}.
+     */
+    public static DynamicMst of(CsrGraph graph) {
+        DynamicMst mst = new DynamicMst(graph, graph.nodeCount());
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                if (!graph.isReverseCopy(e)) {
+                    int id = mst.addEdge(u, graph.target(e), graph.weight(e), graph.edge(e));
+                    mst.ids.put(graph.edge(e), id);
+                }
+            }
+        }
+
+        int m = mst.edgeCount;
+        int[] order = new int[m];
+        for (int id = 0; id < m; id++) {
+            order[id] = id;
+        }
+        order = RadixSort.sortByKey(order, Arrays.copyOf(mst.weights, m), m);
+
+        DisjointSet uf = new DisjointSet(graph.nodeCount());
+        for (int id : order) {
+            if (uf.union(mst.sources[id], mst.targets[id])) {
+                mst.link(id);
+            } else {
+                mst.addOther(id);
+            }
+        }
+        return mst;
+    }
+
+    // -----------------------------------------------------------------
+    // Modifications
+    // -----------------------------------------------------------------
+
+    /**
+     * Ajoute une arête non dirigée entre u et v.
+     *
+     * @return L'identifiant de la nouvelle arête.
+     * @throws IllegalArgumentException si un nœud n'existe pas ou si le poids est NaN.
+     */
+    public int insertEdge(int u, int v, double weight) {
+        checkNode(u);
+        checkNode(v);
+        checkWeight(weight);
+        int id = addEdge(u, v, weight, null);
+        addOther(id);
+        offer(id);
+        return id;
+    }
+
+    /**
+     * Variante de {@link #insertEdge(int, int, double)} avec les noms des nœuds.
+     *
+     * @throws IllegalArgumentException si la structure n'a pas été construite
+     *                                  depuis un graphe ou si un nom est inconnu.
+     */
+    public int insertEdge(String from, String to, double weight) {
+        return insertEdge(nodeId(from), nodeId(to), weight);
+    }
+
+    /**
+     * Supprime une arête. Si elle faisait partie de l'arbre, elle est remplacée
+     * par l'arête la plus légère qui reconnecte les deux morceaux, s'il y en a une.
+     *
+     * @throws IllegalArgumentException si l'arête n'existe pas ou a déjà été supprimée.
+     */
+    public void deleteEdge(int id) {
+        checkEdge(id);
+        if (inTree[id]) {
+            cut(id);
+            alive[id] = false;
+            reconnect(sources[id], targets[id]);
+        } else {
+            removeOther(id);
+            alive[id] = false;
+        }
+        aliveCount--;
+        if (originals[id] != null) {
+            ids.remove(originals[id]);
+            originals[id] = null;
+        }
+    }
+
+    /**
+     * Change le poids d'une arête et répare l'arbre.
+     *
+     * @throws IllegalArgumentException si l'arête n'existe pas ou si le poids est NaN.
+     */
+    public void updateWeight(int id, double weight) {
+        checkEdge(id);
+        checkWeight(weight);
+        double old = weights[id];
+        weights[id] = weight;
+
+        if (inTree[id] && weight > old) {
+            // L'arête reste candidate à sa propre succession
+            cut(id);
+            addOther(id);
+            reconnect(sources[id], targets[id]);
+        } else if (!inTree[id] && weight < old) {
+            offer(id);
+        }
+    }
+
+    /**
+     * Variante de {@link #updateWeight(int, double)} pour une arête du graphe d'origine.
+     *
+     * @throws IllegalArgumentException si l'arête est inconnue ou supprimée.
+     */
+    public void updateWeight(Edge edge, double weight) {
+        updateWeight(idOf(edge), weight);
+    }
+
+    // -----------------------------------------------------------------
+    // Consultation
+    // -----------------------------------------------------------------
+
+    public int nodeCount() {
+        return n;
+    }
+
+    /** Nombre d'arêtes présentes (les supprimées ne comptent pas). */
+    public int edgeCount() {
+        return aliveCount;
+    }
+
+    /** Borne des identifiants distribués : tout identifiant est dans [0, edgeIdLimit()). */
+    public int edgeIdLimit() {
+        return edgeCount;
+    }
+
+    public boolean isAlive(int id) {
+        return id >= 0 && id < edgeCount && alive[id];
+    }
+
+    public boolean isTreeEdge(int id) {
+        return isAlive(id) && inTree[id];
+    }
+
+    public int source(int id) {
+        return sources[id];
+    }
+
+    public int target(int id) {
+        return targets[id];
+    }
+
+    public double weight(int id) {
+        return weights[id];
+    }
+
+    /** @return L'arête du Graph d'origine, ou null pour une arête ajoutée par insertEdge. */
+    public Edge edge(int id) {
+        return originals[id];
+    }
+
+    /** @return L'identifiant d'une arête du graphe d'origine, ou -1 si elle est inconnue ou supprimée. */
+    public int idOf(Edge edge) {
+        Integer id = ids.get(edge);
+        return id == null ? -1 : id;
+    }
+
+    /** Nombre d'arêtes de la forêt. */
+    public int treeEdgeCount() {
+        return treeSize;
+    }
+
+    /** Nombre de composantes connexes (nœuds isolés compris). */
+    public int componentCount() {
+        return n - treeSize;
+    }
+
+    /** Poids total de la forêt, recalculé à chaque appel pour rester exact. */
+    public double totalWeight() {
+        double total = 0.0;
+        for (int id = 0; id < edgeCount; id++) {
+            if (alive[id] && inTree[id]) {
+                total += weights[id];
+            }
+        }
+        return total;
+    }
+
+    /** @return Les identifiants des arêtes de la forêt, par (poids, identifiant) croissant. */
+    public int[] treeEdges() {
+        int[] result = new int[treeSize];
+        double[] keys = new double[treeSize];
+        int count = 0;
+        for (int id = 0; id < edgeCount; id++) {
+            if (alive[id] && inTree[id]) {
+                result[count] = id;
+                keys[count] = weights[id];
+                count++;
+            }
+        }
+        return RadixSort.sortByKey(result, keys, count);
+    }
+
+    // -----------------------------------------------------------------
+    // Réparations
+    // -----------------------------------------------------------------
+
+    /**
+     * L'arête hors arbre id vient d'apparaître ou de s'alléger : elle entre
+     * dans l'arbre si elle relie deux composantes, ou si elle est plus légère
+     * que l'arête la plus lourde du chemin entre ses extrémités.
+     */
+    private void offer(int id) {
+        int u = sources[id];
+        int v = targets[id];
+        if (u == v) {
+            return;
+        }
+        int heaviest = heaviestOnPath(u, v);
+        if (heaviest >= 0) {
+            if (!lighter(id, heaviest)) {
+                return;
+            }
+            cut(heaviest);
+            addOther(heaviest);
+        }
+        removeOther(id);
+        link(id);
+    }
+
+    /**
+     * Parcours en largeur de l'arbre depuis u jusqu'à v.
+     *
+     * @return L'arête la plus lourde du chemin, ou -1 si u et v ne sont pas reliés.
+     */
+    private int heaviestOnPath(int u, int v) {
+        int mark = ++stamp;
+        marks[u] = mark;
+        parentEdges[u] = -1;
+        queueA[0] = u;
+        int head = 0;
+        int tail = 1;
+        search:
+        while (head < tail) {
+            int x = queueA[head++];
+            IntList adj = treeAdj[x];
+            if (adj == null) {
+                continue;
+            }
+            for (int i = 0; i < adj.size(); i++) {
+                int e = adj.get(i);
+                int y = opposite(e, x);
+                if (marks[y] != mark) {
+                    marks[y] = mark;
+                    parentEdges[y] = e;
+                    if (y == v) {
+                        break search;
+                    }
+                    queueA[tail++] = y;
+                }
+            }
+        }
+        if (marks[v] != mark) {
+            return -1;
+        }
+
+        int heaviest = -1;
+        for (int x = v; x != u; x = opposite(parentEdges[x], x)) {
+            int e = parentEdges[x];
+            if (heaviest < 0 || lighter(heaviest, e)) {
+                heaviest = e;
+            }
+        }
+        return heaviest;
+    }
+
+    /**
+     * Une arête de l'arbre entre a et b vient d'être retirée. On parcourt les
+     * deux morceaux en alternance jusqu'à ce que l'un soit épuisé (le plus
+     * petit), puis on cherche parmi ses arêtes hors arbre la plus légère qui
+     * mène à l'autre morceau.
+     */
+    private void reconnect(int a, int b) {
+        int markA = ++stamp;
+        int markB = ++stamp;
+        marks[a] = markA;
+        marks[b] = markB;
+        queueA[0] = a;
+        queueB[0] = b;
+        int headA = 0, tailA = 1;
+        int headB = 0, tailB = 1;
+
+        while (headA < tailA && headB < tailB) {
+            tailA = expand(queueA[headA++], queueA, tailA, markA);
+            tailB = expand(queueB[headB++], queueB, tailB, markB);
+        }
+        int[] side = headA == tailA ? queueA : queueB;
+        int sideSize = headA == tailA ? tailA : tailB;
+        int sideMark = headA == tailA ? markA : markB;
+
+        // Les arêtes hors arbre restent internes à une composante : celles qui
+        // sortent du petit morceau arrivent forcément dans l'autre
+        int best = -1;
+        for (int i = 0; i < sideSize; i++) {
+            int x = side[i];
+            IntList adj = otherAdj[x];
+            if (adj == null) {
+                continue;
+            }
+            for (int j = 0; j < adj.size(); j++) {
+                int e = adj.get(j);
+                if (marks[opposite(e, x)] != sideMark && (best < 0 || lighter(e, best))) {
+                    best = e;
+                }
+            }
+        }
+        if (best >= 0) {
+            removeOther(best);
+            link(best);
+        }
+    }
+
+    /** Ajoute à la file les voisins de x dans l'arbre pas encore marqués. */
+    private int expand(int x, int[] queue, int tail, int mark) {
+        IntList adj = treeAdj[x];
+        if (adj != null) {
+            for (int i = 0; i < adj.size(); i++) {
+                int y = opposite(adj.get(i), x);
+                if (marks[y] != mark) {
+                    marks[y] = mark;
+                    queue[tail++] = y;
+                }
+            }
+        }
+        return tail;
+    }
+
+    // -----------------------------------------------------------------
+    // Outils
+    // -----------------------------------------------------------------
+
+    /** Ordre total sur les arêtes : poids, puis identifiant. */
+    private boolean lighter(int e, int f) {
+        int c = Double.compare(weights[e], weights[f]);
+        return c < 0 || (c == 0 && e < f);
+    }
+
+    private int opposite(int e, int x) {
+        return sources[e] == x ? targets[e] : sources[e];
+    }
+
+    private int addEdge(int u, int v, double weight, Edge original) {
+        if (edgeCount == sources.length) {
+            int capacity = edgeCount * 2;
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            inTree = Arrays.copyOf(inTree, capacity);
+            originals = Arrays.copyOf(originals, capacity);
+        }
+        int id = edgeCount++;
+        sources[id] = u;
+        targets[id] = v;
+        weights[id] = weight;
+        alive[id] = true;
+        originals[id] = original;
+        aliveCount++;
+        return id;
+    }
+
+    private void link(int id) {
+        list(treeAdj, sources[id]).add(id);
+        list(treeAdj, targets[id]).add(id);
+        inTree[id] = true;
+        treeSize++;
+    }
+
+    private void cut(int id) {
+        treeAdj[sources[id]].removeValue(id);
+        treeAdj[targets[id]].removeValue(id);
+        inTree[id] = false;
+        treeSize--;
+    }
+
+    private void addOther(int id) {
+        list(otherAdj, sources[id]).add(id);
+        if (targets[id] != sources[id]) {
+            list(otherAdj, targets[id]).add(id);
+        }
+    }
+
+    private void removeOther(int id) {
+        otherAdj[sources[id]].removeValue(id);
+        if (targets[id] != sources[id]) {
+            otherAdj[targets[id]].removeValue(id);
+        }
+    }
+
+    private static IntList list(IntList[] lists, int v) {
+        if (lists[v] == null) {
+            lists[v] = new IntList();
+        }
+        return lists[v];
+    }
+
+    private int nodeId(String name) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Structure créée sans graphe : nœuds désignés par identifiant uniquement");
+        }
+        int id = graph.idOf(name);
+        if (id < 0) {
+            throw new IllegalArgumentException("Nœud introuvable : " + name);
+        }
+        return id;
+    }
+
+    private void checkNode(int v) {
+        if (v < 0 || v >= n) {
+            throw new IllegalArgumentException("Nœud inconnu : " + v);
+        }
+    }
+
+    private void checkEdge(int id) {
+        if (!isAlive(id)) {
+            throw new IllegalArgumentException("Arête inconnue ou supprimée : " + id);
+        }
+    }
+
+    private static void checkWeight(double weight) {
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Poids invalide : " + weight);
+        }
+    }
+}
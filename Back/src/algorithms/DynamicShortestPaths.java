@@ -0,0 +1,365 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Edge;
+import models.Graph;
+import models.Node;
+import models.WeightChange;
+
+import java.util.*;
+
+/**
+ * Plus courts chemins depuis une source, maintenus au fil des changements de
+ * poids des arêtes (à la manière de Ramalingam et Reps).
+ *
+ * L'arbre des plus courts chemins est gardé en mémoire et seule la partie
+ * touchée par un changement est recalculée :
+ * - une arête (u, v) qui s'allège ne change rien si dist(u) + w reste au-dessus
+ *   de dist(v) ; sinon v s'améliore, et l'amélioration se propage avec un
+ *   Dijkstra qui ne visite que les nœuds dont la distance baisse ;
+ * - une arête qui s'alourdit ne change rien si elle n'est pas dans l'arbre.
+ *   Sinon, si v a un autre prédécesseur qui donne la même distance, il suffit
+ *   de changer d'arête parente. Sinon, le sous-arbre de v est détaché, chacun
+ *   de ses nœuds repart de sa meilleure arête entrante venant de l'extérieur,
+ *   et un Dijkstra limité au sous-arbre termine le travail.
+ * Le coût d'une mise à jour dépend donc de la zone affectée, pas du graphe.
+ *
+ * Poids positifs ou nuls uniquement, comme Dijkstra.
+ */
+public final class DynamicShortestPaths {
+    private final CsrGraph graph;
+    private final CsrGraph incoming;
+    private final int source;
+    private final int[] sources;     // source de chaque arête CSR (le CSR ne stocke que la cible)
+    private final double[] weights; // poids courants, par arête CSR
+    private final int[] twins;      // autre copie d'une arête non dirigée, ou -1
+    private final Map<Edge, Integer> edgeIds = new IdentityHashMap<>();
+
+    private final double[] dist;
+    private final int[] parentEdges; // arête CSR de l'arbre qui arrive sur chaque nœud, ou -1
+
+    // Espace de travail des réparations
+    private final IndexedHeap heap;
+    private final int[] marks;
+    private final int[] affected;
+    private int stamp;
+
+    // Graphe d'origine et version du journal déjà appliquée (null si construit sur un CsrGraph)
+    private final Graph origin;
+    private long version;
+
+    private DynamicShortestPaths(CsrGraph graph, int source, Graph origin) {
+        int n = graph.nodeCount();
+        int m = graph.edgeCount();
+        this.graph = graph;
+        this.incoming = graph.reverse();
+        this.source = source;
+        this.origin = origin;
+        this.version = origin == null ? 0 : origin.version();
+
+        this.sources = new int[m];
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                sources[e] = u;
+            }
+        }
+        this.weights = new double[m];
+        this.twins = new int[m];
+        Arrays.fill(twins, -1);
+        for (int e = 0; e < m; e++) {
+            double w = graph.weight(e);
+            if (w < 0) {
+                throw new IllegalArgumentException("Poids négatif non supporté : " + graph.edge(e));
+            }
+            weights[e] = w;
+            Integer first = edgeIds.putIfAbsent(graph.edge(e), e);
+            if (first != null) {
+                twins[first] = e;
+                twins[e] = first;
+            }
+        }
+
+        this.dist = new double[n];
+        this.parentEdges = new int[n];
+        this.heap = new IndexedHeap(n);
+        this.marks = new int[n];
+        this.affected = new int[n];
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(parentEdges, -1);
+
+        dist[source] = 0.0;
+        heap.push(source, 0.0);
+        propagate(false);
+    }
+
+    /**
+     * Calcule l'arbre initial sur le graphe figé à cet instant. Les
+     * changements faits ensuite avec {@link Graph#updateWeight(Edge, double)}
+     * sont appliqués par {@link #refresh()}.
+     *
+     * @throws IllegalArgumentException si le nœud est introuvable ou si un poids est négatif.
+     */
+    public static DynamicShortestPaths of(Graph graph, String sourceId) {
+        CsrGraph csr = graph.freeze();
+        return new DynamicShortestPaths(csr, sourceId(csr, sourceId), graph);
+    }
+
+    /**
+     * Calcule l'arbre initial sur une vue CSR ; les changements sont alors
+     * transmis par {@link #updateWeight(int, double)}.
+     *
+     * @throws IllegalArgumentException si un poids est négatif.
+     */
+    public static DynamicShortestPaths of(CsrGraph graph, String sourceId) {
+        return new DynamicShortestPaths(graph, sourceId(graph, sourceId), null);
+    }
+
+    /** Variante de {@link #of(CsrGraph, String)} avec l'identifiant dense de la source. */
+    public static DynamicShortestPaths of(CsrGraph graph, int source) {
+        if (source < 0 || source >= graph.nodeCount()) {
+            throw new IllegalArgumentException("Nœud de départ introuvable : " + source);
+        }
+        return new DynamicShortestPaths(graph, source, null);
+    }
+
+    private static int sourceId(CsrGraph graph, String sourceId) {
+        int id = graph.idOf(sourceId);
+        if (id < 0) {
+            throw new IllegalArgumentException("Nœud de départ introuvable : " + sourceId);
+        }
+        return id;
+    }
+
+    // -----------------------------------------------------------------
+    // Mises à jour
+    // -----------------------------------------------------------------
+
+    /**
+     * Applique les changements de poids inscrits au journal du graphe
+     * d'origine depuis le dernier appel.
+     *
+     * @return Le nombre de changements appliqués.
+     * @throws IllegalStateException si la structure n'a pas été construite sur un Graph.
+     */
+    public int refresh() {
+        if (origin == null) {
+            throw new IllegalStateException("Pas de graphe d'origine : utiliser updateWeight");
+        }
+        List<WeightChange> changes = origin.changesSince(version);
+        for (WeightChange change : changes) {
+            updateWeight(change.getEdge(), change.getNewWeight());
+        }
+        version += changes.size();
+        return changes.size();
+    }
+
+    /**
+     * Change le poids d'une arête du graphe d'origine (les deux sens pour une
+     * arête non dirigée) et répare l'arbre.
+     *
+     * @throws IllegalArgumentException si l'arête est inconnue ou le poids négatif.
+     */
+    public void updateWeight(Edge edge, double weight) {
+        Integer e = edgeIds.get(edge);
+        if (e == null) {
+            throw new IllegalArgumentException("Arête inconnue : " + edge);
+        }
+        updateWeight(e, weight);
+    }
+
+    /**
+     * Change le poids de l'arête CSR e et répare l'arbre. Pour une arête non
+     * dirigée, sa copie dans l'autre sens change aussi.
+     *
+     * @throws IllegalArgumentException si le poids est négatif ou NaN.
+     */
+    public void updateWeight(int e, double weight) {
+        if (!(weight >= 0)) {
+            throw new IllegalArgumentException("Poids négatif non supporté : " + weight);
+        }
+        setWeight(e, weight);
+        if (twins[e] >= 0) {
+            setWeight(twins[e], weight);
+        }
+    }
+
+    private void setWeight(int e, double weight) {
+        double old = weights[e];
+        weights[e] = weight;
+        if (weight < old) {
+            decreased(e);
+        } else if (weight > old) {
+            increased(e);
+        }
+    }
+
+    /** L'arête e s'est allégée : propager l'amélioration éventuelle de sa cible. */
+    private void decreased(int e) {
+        int v = graph.target(e);
+        double newDist = dist[sources[e]] + weights[e];
+        if (newDist < dist[v]) {
+            dist[v] = newDist;
+            parentEdges[v] = e;
+            heap.push(v, newDist);
+            propagate(false);
+        }
+    }
+
+    /** L'arête e s'est alourdie : réparer le sous-arbre qu'elle portait. */
+    private void increased(int e) {
+        int v = graph.target(e);
+        if (parentEdges[v] != e) {
+            return;
+        }
+
+        // Autre prédécesseur à la même distance : une arête de poids > 0 vient
+        // forcément d'un nœud plus proche, donc hors du sous-arbre de v
+        for (int r = incoming.firstEdge(v); r < incoming.endEdge(v); r++) {
+            int f = incoming.originalEdge(r);
+            if (f != e && weights[f] > 0 && dist[incoming.target(r)] + weights[f] == dist[v]) {
+                parentEdges[v] = f;
+                return;
+            }
+        }
+
+        // 1. Sous-arbre de v : les nœuds dont le chemin passe par e
+        int mark = ++stamp;
+        marks[v] = mark;
+        affected[0] = v;
+        int count = 1;
+        for (int i = 0; i < count; i++) {
+            int x = affected[i];
+            for (int f = graph.firstEdge(x); f < graph.endEdge(x); f++) {
+                int y = graph.target(f);
+                if (parentEdges[y] == f && marks[y] != mark) {
+                    marks[y] = mark;
+                    affected[count++] = y;
+                }
+            }
+        }
+
+        // 2. Chaque nœud détaché repart de sa meilleure arête venant de l'extérieur
+        for (int i = 0; i < count; i++) {
+            int y = affected[i];
+            double best = Double.POSITIVE_INFINITY;
+            int bestEdge = -1;
+            for (int r = incoming.firstEdge(y); r < incoming.endEdge(y); r++) {
+                int x = incoming.target(r);
+                if (marks[x] == mark) {
+                    continue;
+                }
+                int f = incoming.originalEdge(r);
+                double candidate = dist[x] + weights[f];
+                if (candidate < best) {
+                    best = candidate;
+                    bestEdge = f;
+                }
+            }
+            dist[y] = best;
+            parentEdges[y] = bestEdge;
+            if (bestEdge >= 0) {
+                heap.push(y, best);
+            }
+        }
+
+        // 3. Dijkstra limité au sous-arbre
+        propagate(true);
+    }
+
+    /**
+     * Dijkstra à partir des nœuds déjà dans le tas. Si restricted, seuls les
+     * nœuds marqués par la réparation en cours peuvent être améliorés.
+     */
+    private void propagate(boolean restricted) {
+        int mark = stamp;
+        while (!heap.isEmpty()) {
+            int x = heap.poll();
+            double dx = dist[x];
+            for (int f = graph.firstEdge(x); f < graph.endEdge(x); f++) {
+                int y = graph.target(f);
+                if (restricted && marks[y] != mark) {
+                    continue;
+                }
+                double newDist = dx + weights[f];
+                if (newDist < dist[y]) {
+                    dist[y] = newDist;
+                    parentEdges[y] = f;
+                    heap.push(y, newDist);
+                }
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------
+    // Consultation
+    // -----------------------------------------------------------------
+
+    /** La vue CSR de départ (ses poids ne suivent pas les mises à jour, voir weight). */
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    public int source() {
+        return source;
+    }
+
+    /** Poids courant de l'arête CSR e. */
+    public double weight(int e) {
+        return weights[e];
+    }
+
+    /** @return Une vue CSR avec les poids courants (même structure que graph()). */
+    public CsrGraph snapshot() {
+        return graph.withWeights(weights.clone());
+    }
+
+    /** Distance de la source à v (infinie si v est inaccessible). */
+    public double distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * @throws IllegalArgumentException si le nœud est introuvable.
+     */
+    public double distance(String nodeId) {
+        return dist[nodeId(nodeId)];
+    }
+
+    /** @return L'arête CSR par laquelle on arrive sur v, ou -1 (source ou inaccessible). */
+    public int parentEdge(int v) {
+        return parentEdges[v];
+    }
+
+    /** @return Le prédécesseur de v sur son plus court chemin, ou -1. */
+    public int predecessor(int v) {
+        int e = parentEdges[v];
+        return e < 0 ? -1 : sources[e];
+    }
+
+    /**
+     * Plus court chemin courant de la source à un nœud.
+     *
+     * @return Les nœuds du chemin (départ -> arrivée), vide si le nœud est inaccessible.
+     * @throws IllegalArgumentException si le nœud est introuvable.
+     */
+    public List<Node> path(String targetId) {
+        int target = nodeId(targetId);
+        List<Node> path = new ArrayList<>();
+        if (dist[target] == Double.POSITIVE_INFINITY) {
+            return path; // Pas de chemin
+        }
+        for (int step = target; step >= 0; step = predecessor(step)) {
+            path.add(graph.node(step));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private int nodeId(String name) {
+        int id = graph.idOf(name);
+        if (id < 0) {
+            throw new IllegalArgumentException("Nœud introuvable : " + name);
+        }
+        return id;
+    }
+}
@@ -1,75 +1,198 @@
 package algorithms;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import models.*;
 
 public class FloydWarshall {
+    // Côté d'un bloc de la matrice (64 x 64 doubles = 32 Ko, tient en cache L1/L2)
+    private static final int BLOCK_SIZE = 64;
+
     /**
      * Implémente l'algorithme de Floyd-Warshall.
      *
      * Cet algorithme trouve les plus courts chemins entre TOUTES les paires
-     * de nœuds dans un graphe pondéré. Il gère les poids négatifs (mais
-     * lèvera une exception s'il y a un cycle négatif, bien que cette
-     * implémentation ne le détecte pas explicitement).
+     * de nœuds dans un graphe pondéré. Il gère les poids négatifs ; si un
+     * cycle de poids négatif existe, les paires (i, j) dont un chemin peut
+     * passer par ce cycle valent Double.NEGATIVE_INFINITY.
+     *
+     * Adaptateur vers {@link #compute(CsrGraph, boolean)} qui conserve le
+     * format de retour historique.
      *
      * @param graph Le graphe à traiter.
      * @return Une Map (représentant une matrice) où les clés sont les ID des sources,
      * et les valeurs sont des Maps (ID de destination -> coût du plus court chemin).
      */
     public static Map<String, Map<String, Double>> floydWarshall(Graph graph) {
-        // Cette map contiendra notre matrice de distances : dist.get(source).get(target)
-        Map<String, Map<String, Double>> dist = new HashMap<>();
+        return compute(graph.freeze(), false).toMap();
+    }
+
+    /**
+     * Variante de {@link #floydWarshall(Graph)} sur la vue CSR du graphe.
+     */
+    public static Map<String, Map<String, Double>> floydWarshall(CsrGraph graph) {
+        return compute(graph, false).toMap();
+    }
+
+    /**
+     * Floyd-Warshall par blocs sur une matrice plate, parallélisé sur le pool commun.
+     *
+     * @param graph     La vue CSR du graphe.
+     * @param withPaths Si true, calcule aussi la matrice des successeurs
+     *                  (nœud suivant sur chaque plus court chemin).
+     */
+    public static DistanceMatrix compute(CsrGraph graph, boolean withPaths) {
+        return compute(graph, withPaths, ForkJoinPool.commonPool());
+    }
 
-        // Obtenir tous les ID de nœuds dans un ordre fixe
-        List<String> nodeIds = new ArrayList<>();
-        for (Node n : graph.getNodes()) {
-            nodeIds.add(n.getId());
+    /**
+     * Floyd-Warshall par blocs sur une matrice plate double[n * n].
+     *
+     * La matrice est découpée en blocs de BLOCK_SIZE x BLOCK_SIZE. Pour chaque
+     * bloc pivot kb, on traite dans l'ordre :
+     * 1. le bloc diagonal (kb, kb), qui ne dépend que de lui-même ;
+     * 2. les blocs de la ligne kb et de la colonne kb, indépendants entre eux ;
+     * 3. tous les autres blocs, indépendants entre eux.
+     * Les étapes 2 et 3 s'exécutent en parallèle sur le pool.
+     *
+     * Les nœuds i tels que dist[i][i] < 0 sont sur un cycle négatif. Toute
+     * paire (i, j) avec un chemin i -> k -> j passant par un tel nœud k n'a
+     * pas de plus court chemin : sa distance est mise à NEGATIVE_INFINITY.
+     *
+     * @param pool Le ForkJoinPool sur lequel répartir le travail.
+     */
+    public static DistanceMatrix compute(CsrGraph graph, boolean withPaths, ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graphe trop grand pour une matrice complète : " + n + " nœuds");
+        }
+        double[] dist = new double[n * n];
+        int[] next = withPaths ? new int[n * n] : null;
+
+        // 1. Initialiser la matrice avec les arêtes directes
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        if (next != null) {
+            Arrays.fill(next, -1);
+        }
+        for (int i = 0; i < n; i++) {
+            dist[i * n + i] = 0.0;
+            if (next != null) {
+                next[i * n + i] = i;
+            }
         }
-        Collections.sort(nodeIds); // Assure un ordre cohérent
-
-        // 1. Initialiser la matrice de distances
-        for (String id1 : nodeIds) {
-            Map<String, Double> innerMap = new HashMap<>();
-            for (String id2 : nodeIds) {
-                if (id1.equals(id2)) {
-                    innerMap.put(id2, 0.0); // Distance à soi-même = 0
-                } else {
-                    innerMap.put(id2, Double.POSITIVE_INFINITY); // Aucun chemin connu
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                // En cas d'arêtes multiples, on garde la moins chère
+                if (graph.weight(e) < dist[u * n + v]) {
+                    dist[u * n + v] = graph.weight(e);
+                    if (next != null) {
+                        next[u * n + v] = v;
+                    }
                 }
             }
-            dist.put(id1, innerMap);
         }
 
-        // 2. Remplir la matrice avec les poids des arêtes directes
-        for (Node sourceNode : graph.getNodes()) {
-            String sourceId = sourceNode.getId();
-            for (Edge edge : sourceNode.getEdges()) {
-                String targetId = edge.getTarget().getId();
-                // On utilise getWeight() directement
-                dist.get(sourceId).put(targetId, edge.getWeight());
+        // 2. Cœur de l'algorithme, bloc pivot par bloc pivot
+        int blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int kb = 0; kb < blocks; kb++) {
+            final int k = kb;
+
+            updateBlock(dist, next, n, k, k, k);
+
+            Parallel.forRange(pool, 0, blocks, 1, (from, to) -> {
+                for (int b = from; b < to; b++) {
+                    if (b == k) continue;
+                    updateBlock(dist, next, n, k, b, k); // ligne du pivot
+                    updateBlock(dist, next, n, b, k, k); // colonne du pivot
+                }
+            });
+
+            Parallel.forRange(pool, 0, blocks * blocks, 1, (from, to) -> {
+                for (int t = from; t < to; t++) {
+                    int ib = t / blocks;
+                    int jb = t % blocks;
+                    if (ib == k || jb == k) continue;
+                    updateBlock(dist, next, n, ib, jb, k);
+                }
+            });
+        }
+
+        markNegativeCycles(dist, next, n, pool);
+
+        return new DistanceMatrix(graph, dist, next);
+    }
+
+    /**
+     * Met à NEGATIVE_INFINITY les distances des paires qui peuvent emprunter
+     * un cycle négatif (détecté par une diagonale négative).
+     */
+    private static void markNegativeCycles(double[] dist, int[] next, int n, ForkJoinPool pool) {
+        int count = 0;
+        int[] onCycle = new int[n];
+        for (int k = 0; k < n; k++) {
+            if (dist[k * n + k] < 0) {
+                onCycle[count++] = k;
             }
         }
+        if (count == 0) {
+            return;
+        }
 
-        // 3. Cœur de l'algorithme Floyd-Warshall
-        // Itérer sur tous les nœuds 'k' comme intermédiaires potentiels
-        for (String k : nodeIds) {
-            // Pour chaque nœud source 'i'
-            for (String i : nodeIds) {
-                // Pour chaque nœud de destination 'j'
-                for (String j : nodeIds) {
-                    double distIK = dist.get(i).get(k);
-                    double distKJ = dist.get(k).get(j);
-                    double distIJ = dist.get(i).get(j);
-
-                    // Si le chemin de i à j en passant par k est plus court
-                    if (distIK + distKJ < distIJ) {
-                        // Mettre à jour le plus court chemin
-                        dist.get(i).put(j, distIK + distKJ);
+        // Copie des lignes des nœuds du cycle : elles ne changent pas pendant le marquage
+        int cycleNodes = count;
+        double[][] cycleRows = new double[cycleNodes][];
+        for (int c = 0; c < cycleNodes; c++) {
+            int k = onCycle[c];
+            cycleRows[c] = Arrays.copyOfRange(dist, k * n, (k + 1) * n);
+        }
+
+        Parallel.forRange(pool, 0, n, 16, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int rowI = i * n;
+                for (int c = 0; c < cycleNodes; c++) {
+                    if (dist[rowI + onCycle[c]] == Double.POSITIVE_INFINITY) continue;
+                    double[] rowK = cycleRows[c];
+                    for (int j = 0; j < n; j++) {
+                        if (rowK[j] != Double.POSITIVE_INFINITY) {
+                            dist[rowI + j] = Double.NEGATIVE_INFINITY;
+                            if (next != null) {
+                                next[rowI + j] = -1;
+                            }
+                        }
                     }
                 }
             }
-        }
+        });
+    }
+
+    /**
+     * Relâche le bloc (ib, jb) à travers tous les intermédiaires k du bloc kb.
+     */
+    private static void updateBlock(double[] dist, int[] next, int n, int ib, int jb, int kb) {
+        int iEnd = Math.min(n, (ib + 1) * BLOCK_SIZE);
+        int jStart = jb * BLOCK_SIZE;
+        int jEnd = Math.min(n, jStart + BLOCK_SIZE);
+        int kEnd = Math.min(n, (kb + 1) * BLOCK_SIZE);
 
-        return dist;
+        for (int k = kb * BLOCK_SIZE; k < kEnd; k++) {
+            int rowK = k * n;
+            for (int i = ib * BLOCK_SIZE; i < iEnd; i++) {
+                int rowI = i * n;
+                double distIK = dist[rowI + k];
+                if (distIK == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int j = jStart; j < jEnd; j++) {
+                    double viaK = distIK + dist[rowK + j];
+                    if (viaK < dist[rowI + j]) {
+                        dist[rowI + j] = viaK;
+                        if (next != null) {
+                            next[rowI + j] = next[rowI + k];
+                        }
+                    }
+                }
+            }
+        }
     }
-}
\ No newline at end of file
+}
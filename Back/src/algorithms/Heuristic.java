@@ -0,0 +1,84 @@
+package algorithms;
+
+import models.CsrGraph;
+
+/**
+ * Estimation de la distance restante utilisée par {@link AStar}.
+ *
+ * Pour que A* retourne le même chemin optimal que Dijkstra, l'estimation
+ * doit être cohérente : h(u) <= poids(u, v) + h(v) pour toute arête u -> v,
+ * et h(cible) = 0. Les estimations fournies ici le sont si leur facteur
+ * d'échelle est bien choisi.
+ */
+@FunctionalInterface
+public interface Heuristic {
+
+    // Rayon moyen de la Terre, en kilomètres
+    double EARTH_RADIUS_KM = 6371.0;
+
+    /**
+     * @param graph  Le graphe parcouru.
+     * @param node   Le nœud courant.
+     * @param target Le nœud d'arrivée.
+     * @return Une borne inférieure du coût de node à target.
+     */
+    double estimate(CsrGraph graph, int node, int target);
+
+    /** Aucune estimation : A* se comporte exactement comme Dijkstra. */
+    static Heuristic zero() {
+        return (graph, node, target) -> 0.0;
+    }
+
+    /**
+     * Distance euclidienne entre les coordonnées (x, y) des nœuds,
+     * multipliée par scale (unités de poids par unité de coordonnée).
+     */
+    static Heuristic euclidean(double scale) {
+        return (graph, node, target) -> {
+            double dx = graph.x(node) - graph.x(target);
+            double dy = graph.y(node) - graph.y(target);
+            return scale * Math.sqrt(dx * dx + dy * dy);
+        };
+    }
+
+    /**
+     * Distance euclidienne avec le plus grand facteur d'échelle qui reste
+     * cohérent sur ce graphe : le minimum de poids / longueur sur toutes
+     * les arêtes. Utile quand les coordonnées ne sont pas dans l'unité
+     * des poids (par exemple des pixels).
+     */
+    static Heuristic euclidean(CsrGraph graph) {
+        double scale = Double.POSITIVE_INFINITY;
+        for (int u = 0; u < graph.nodeCount(); u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                int v = graph.target(e);
+                double length = Math.hypot(graph.x(u) - graph.x(v), graph.y(u) - graph.y(v));
+                if (length > 0) {
+                    scale = Math.min(scale, Math.max(0.0, graph.weight(e)) / length);
+                }
+            }
+        }
+        return euclidean(scale == Double.POSITIVE_INFINITY ? 0.0 : scale);
+    }
+
+    /**
+     * Distance orthodromique (formule de haversine) pour des nœuds dont
+     * x est la longitude et y la latitude, en degrés.
+     *
+     * @param weightPerKm Nombre d'unités de poids par kilomètre
+     *                    (1 si les poids sont des kilomètres).
+     */
+    static Heuristic haversine(double weightPerKm) {
+        return (graph, node, target) -> {
+            double lat1 = Math.toRadians(graph.y(node));
+            double lat2 = Math.toRadians(graph.y(target));
+            double dLat = lat2 - lat1;
+            double dLon = Math.toRadians(graph.x(target) - graph.x(node));
+
+            double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                    + Math.cos(lat1) * Math.cos(lat2) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+            double km = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+            return weightPerKm * km;
+        };
+    }
+}
@@ -0,0 +1,199 @@
+package algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * File de priorité min indexée (tas d-aire) sur des identifiants entiers 0..capacity-1.
+ *
+ * Contrairement à PriorityQueue, chaque identifiant apparaît au plus une fois :
+ * une distance qui diminue est mise à jour sur place (decreaseKey) au lieu
+ * d'ajouter une nouvelle entrée. Aucune allocation n'a lieu après la construction.
+ */
+public final class IndexedHeap {
+    private final int arity;
+    private final int[] heap;     // heap[i] = identifiant à la position i
+    private final double[] keys;  // keys[i] = priorité de heap[i]
+    private final int[] position; // position[id] = indice dans heap, ou -1
+    private int size;
+
+    public IndexedHeap(int capacity) {
+        this(capacity, 4);
+    }
+
+    /**
+     * @param capacity Nombre d'identifiants possibles (ex: nombre de nœuds).
+     * @param arity    Nombre d'enfants par nœud du tas (2 = tas binaire).
+     */
+    public IndexedHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("L'arité du tas doit être au moins 2 : " + arity);
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.keys = new double[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int capacity() {
+        return position.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return position[id] >= 0;
+    }
+
+    /** @return La priorité actuelle de id (qui doit être dans le tas). */
+    public double key(int id) {
+        return keys[position[id]];
+    }
+
+    /** @return La plus petite priorité du tas. */
+    public double peekKey() {
+        if (size == 0) {
+            throw new NoSuchElementException("Tas vide");
+        }
+        return keys[0];
+    }
+
+    /** @return L'identifiant de plus petite priorité, sans le retirer. */
+    public int peek() {
+        if (size == 0) {
+            throw new NoSuchElementException("Tas vide");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Insère id avec la priorité key, ou diminue sa priorité s'il est déjà présent
+     * et que key est plus petite. Ne fait rien sinon.
+     */
+    public void push(int id, double key) {
+        int i = position[id];
+        if (i < 0) {
+            i = size++;
+            heap[i] = id;
+            keys[i] = key;
+            position[id] = i;
+            siftUp(i);
+        } else if (key < keys[i]) {
+            keys[i] = key;
+            siftUp(i);
+        }
+    }
+
+    /** Diminue la priorité d'un identifiant déjà présent dans le tas. */
+    public void decreaseKey(int id, double key) {
+        int i = position[id];
+        if (i < 0) {
+            throw new NoSuchElementException("Identifiant absent du tas : " + id);
+        }
+        if (key < keys[i]) {
+            keys[i] = key;
+            siftUp(i);
+        }
+    }
+
+    /** Retire et retourne l'identifiant de plus petite priorité. */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Tas vide");
+        }
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            keys[0] = keys[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    /** Retire id du tas s'il y est (quelle que soit sa priorité). */
+    public void remove(int id) {
+        int i = position[id];
+        if (i < 0) {
+            return;
+        }
+        position[id] = -1;
+        size--;
+        if (i < size) {
+            // Le dernier élément prend la place libérée, puis remonte ou descend
+            int moved = heap[size];
+            heap[i] = moved;
+            keys[i] = keys[size];
+            position[moved] = i;
+            siftUp(i);
+            siftDown(position[moved]);
+        }
+    }
+
+    /** Vide le tas en O(taille) : seules les positions occupées sont remises à -1. */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        double key = keys[i];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            if (keys[parent] <= key) {
+                break;
+            }
+            move(parent, i);
+            i = parent;
+        }
+        place(id, key, i);
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        double key = keys[i];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int best = first;
+            for (int c = first + 1; c < last; c++) {
+                if (keys[c] < keys[best]) {
+                    best = c;
+                }
+            }
+            if (keys[best] >= key) {
+                break;
+            }
+            move(best, i);
+            i = best;
+        }
+        place(id, key, i);
+    }
+
+    private void move(int from, int to) {
+        heap[to] = heap[from];
+        keys[to] = keys[from];
+        position[heap[to]] = to;
+    }
+
+    private void place(int id, double key, int i) {
+        heap[i] = id;
+        keys[i] = key;
+        position[id] = i;
+    }
+}
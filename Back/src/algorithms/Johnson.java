@@ -0,0 +1,130 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Graph;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Algorithme de Johnson : plus courts chemins entre toutes les paires pour
+ * les graphes creux, poids négatifs compris.
+ *
+ * 1. Un Bellman-Ford depuis une source virtuelle (reliée à chaque nœud par
+ *    une arête de poids 0) donne un potentiel h(v) à chaque nœud.
+ * 2. Chaque arête u -> v est repondérée en w(u, v) + h(u) - h(v), qui est
+ *    positif ou nul : Dijkstra devient applicable.
+ * 3. On lance un Dijkstra par nœud, en parallèle, puis on corrige chaque
+ *    distance de -h(i) + h(j).
+ *
+ * Complexité O(V.E log V) au lieu de O(V^3) pour Floyd-Warshall : sur un
+ * réseau routier (E ~ 3V) l'écart est considérable dès quelques milliers de nœuds.
+ */
+public class Johnson {
+    // Nombre de destinations traitées par tâche parallèle
+    private static final int TARGETS_PER_TASK = 4;
+
+    /**
+     * Même contrat que {@link FloydWarshall#floydWarshall(Graph)}.
+     *
+     * @param graph Le graphe à traiter.
+     * @return ID source -> (ID destination -> coût du plus court chemin).
+     */
+    public static Map<String, Map<String, Double>> johnson(Graph graph) {
+        return compute(graph.freeze(), false).toMap();
+    }
+
+    /**
+     * Variante de {@link #johnson(Graph)} sur la vue CSR du graphe.
+     */
+    public static Map<String, Map<String, Double>> johnson(CsrGraph graph) {
+        return compute(graph, false).toMap();
+    }
+
+    /**
+     * Johnson sur le pool commun.
+     *
+     * @param graph     La vue CSR du graphe.
+     * @param withPaths Si true, calcule aussi la matrice des successeurs.
+     */
+    public static DistanceMatrix compute(CsrGraph graph, boolean withPaths) {
+        return compute(graph, withPaths, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calcule la matrice des plus courts chemins par l'algorithme de Johnson.
+     *
+     * Si le graphe contient un cycle de poids négatif, aucun potentiel
+     * n'existe : on se rabat sur {@link FloydWarshall#compute(CsrGraph, boolean, ForkJoinPool)},
+     * qui marque les paires concernées à NEGATIVE_INFINITY. Le résultat suit
+     * donc toujours le même contrat que Floyd-Warshall.
+     *
+     * @param pool Le ForkJoinPool sur lequel répartir les Dijkstra.
+     */
+    public static DistanceMatrix compute(CsrGraph graph, boolean withPaths, ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        if ((long) n * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graphe trop grand pour une matrice complète : " + n + " nœuds");
+        }
+
+        // 1. Potentiels
+        double[] h = potentials(graph);
+        if (h == null) {
+            return FloydWarshall.compute(graph, withPaths, pool);
+        }
+
+        // 2. Repondération (les erreurs d'arrondi ne doivent pas rendre un poids négatif)
+        double[] reweighted = new double[graph.edgeCount()];
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                reweighted[e] = Math.max(0.0, graph.weight(e) + h[u] - h[graph.target(e)]);
+            }
+        }
+        CsrGraph positive = graph.withWeights(reweighted);
+
+        // 3. Un Dijkstra par destination j sur le graphe transposé : il donne la
+        // colonne j, et le prédécesseur de i dans cet arbre est exactement le
+        // successeur de i vers j. Suivre les successeurs reste ainsi dans un
+        // seul arbre, même en présence de cycles de poids nul.
+        CsrGraph backward = positive.reverse();
+        double[] dist = new double[n * n];
+        int[] next = withPaths ? new int[n * n] : null;
+        Parallel.forRange(pool, 0, n, TARGETS_PER_TASK, (from, to) -> {
+            try (QueryWorkspace ws = QueryWorkspace.acquire(n)) {
+                for (int j = from; j < to; j++) {
+                    Dijkstra.shortestPath(backward, j, -1, ws);
+                    for (int i = 0; i < n; i++) {
+                        double d = ws.distance(i);
+                        dist[i * n + j] = d == Double.POSITIVE_INFINITY ? d : d - h[i] + h[j];
+                        if (next != null) {
+                            next[i * n + j] = i == j ? j : ws.predecessor(i);
+                        }
+                    }
+                }
+            }
+        });
+
+        return new DistanceMatrix(graph, dist, next);
+    }
+
+    /**
+     * Bellman-Ford (à file de travail) depuis une source virtuelle reliée à
+     * tous les nœuds : tous partent donc à distance 0
+     * (voir {@link BellmanFord#negativeCycleFromAll}).
+     *
+     * @return Les potentiels h, ou null si le graphe contient un cycle négatif.
+     */
+    private static double[] potentials(CsrGraph graph) {
+        int n = graph.nodeCount();
+        try (QueryWorkspace ws = QueryWorkspace.acquire(n)) {
+            if (BellmanFord.negativeCycleFromAll(graph, ws) != null) {
+                return null;
+            }
+            double[] h = new double[n];
+            for (int v = 0; v < n; v++) {
+                h[v] = ws.distance(v);
+            }
+            return h;
+        }
+    }
+}
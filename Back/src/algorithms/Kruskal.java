@@ -1,8 +1,8 @@
 package algorithms;
 
+import models.CsrGraph;
 import models.Edge;
 import models.Graph;
-import models.Node;
 
 import java.util.*;
 
@@ -19,57 +19,54 @@ public class Kruskal {
      * @return Une liste d'arêtes (List<Edge>) représentant l'ACPM.
      */
     public static List<Edge> traverse(Graph graph) {
-        List<Edge> ACPM = new ArrayList<>();
-
-        //Etape 1 : Trier les arrêtes par ordre croissant
-        List<Edge> edges = new ArrayList<>(graph.getAllEdges());
-        edges.sort(Comparator.comparingDouble(Edge::getWeight));
-
-        //Etape 2 : Initialisé Union Find
-        UnionFind uf = new UnionFind(graph.getNodes());
-
-        //Etapes 3 : Montrer les arrêtes triées
-        for (Edge edge : edges) {
-            Node u = edge.getSource();
-            Node v = edge.getTarget();
-
-            //si les sommets ne se connecte pas, on relie
-            if (uf.find(u) != uf.find(v)) {
-                uf.union(u, v);
-                ACPM.add(edge);
-            }
-        }
-
-        return ACPM;
+        return traverse(graph.freeze());
     }
 
     /**
-     * classe interne Union-Find
+     * Variante de {@link #traverse(Graph)} sur la vue CSR du graphe.
+     *
+     * Le tri est stable et suit l'ordre CSR (identique à getAllEdges()) :
+     * à poids égal, l'arête qui vient en premier dans getAllEdges() est retenue.
      */
-    private static class UnionFind {
-        private final Map<Node, Node> parent;
+    public static List<Edge> traverse(CsrGraph graph) {
+        List<Edge> ACPM = new ArrayList<>();
+        int n = graph.nodeCount();
+        int m = graph.edgeCount();
 
-        public UnionFind(Collection<Node> nodes) {
-            parent = new HashMap<>();
-            for (Node node : nodes) {
-                parent.put(node, node);
+        // Source de chaque arête (le CSR ne stocke que la cible)
+        int[] sources = new int[m];
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                sources[e] = u;
             }
         }
 
-        public Node find(Node n) {
-            Node p = parent.get(n);
-            if (p != n) {
-                parent.put(n, find(p)); // compression de chemin
+        //Etape 1 : Trier les arrêtes par ordre croissant (tri par base sur les poids,
+        // stable, donc à poids égal l'ordre CSR est conservé). Chaque route non
+        // dirigée n'est prise qu'une fois : sa copie chez la cible est ignorée.
+        int[] order = new int[m];
+        double[] keys = new double[m];
+        int count = 0;
+        for (int e = 0; e < m; e++) {
+            if (!graph.isReverseCopy(e)) {
+                order[count] = e;
+                keys[count] = graph.weight(e);
+                count++;
             }
-            return parent.get(n);
         }
+        order = RadixSort.sortByKey(order, keys, count);
 
-        public void union(Node a, Node b) {
-            Node rootA = find(a);
-            Node rootB = find(b);
-            if (rootA != rootB) {
-                parent.put(rootB, rootA);
+        //Etape 2 : Union-Find sur les identifiants denses
+        DisjointSet uf = new DisjointSet(n);
+
+        //Etapes 3 : Parcourir les arrêtes triées, jusqu'à ce que tout soit relié
+        for (int i = 0; i < count && uf.count() > 1; i++) {
+            int e = order[i];
+            if (uf.union(sources[e], graph.target(e))) {
+                ACPM.add(graph.edge(e));
             }
         }
+
+        return ACPM;
     }
 }
@@ -0,0 +1,323 @@
+package algorithms;
+
+import models.CsrGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parcours en largeur parallèle, niveau par niveau, à direction optimisée
+ * (méthode de Beamer).
+ *
+ * Chaque niveau est développé de l'une de deux façons :
+ * - descendante : chaque nœud de la frontière examine ses arêtes sortantes ;
+ * - ascendante : chaque nœud non visité cherche un parent dans la frontière
+ *   parmi ses arêtes entrantes ({@link CsrGraph#reverse()}), et s'arrête au
+ *   premier trouvé.
+ * Quand la frontière devient grosse, le mode ascendant évite d'examiner des
+ * milliers d'arêtes qui mènent à des nœuds déjà visités ; on revient au mode
+ * descendant quand elle se réduit. Dans les deux cas, le niveau est réparti
+ * sur un ForkJoinPool et les nœuds visités sont marqués dans un bitmap atomique.
+ *
+ * En mode déterministe, le parent retenu pour chaque nœud est celui qu'aurait
+ * choisi le BFS séquentiel (premier nœud de la frontière dans l'ordre de la
+ * file, puis première arête dans l'ordre des arêtes) et chaque niveau est trié
+ * dans cet ordre : l'ordre de visite et l'arbre sont alors identiques à ceux
+ * de {@link BFS#bfs(CsrGraph, String)}, quel que soit le nombre de threads.
+ */
+public final class ParallelBFS {
+    // Seuils de bascule de Beamer et al.
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+
+    // Nombre de nœuds (frontière ou candidats) traités par tâche parallèle
+    private static final int GRAIN = 1024;
+
+    private static final long NO_KEY = Long.MAX_VALUE;
+
+    private final CsrGraph graph;
+    private final int[] hops;
+    private final int[] parentEdges;
+    private final int[] order;
+    private final int visitedCount;
+    private final int levels;
+
+    private ParallelBFS(CsrGraph graph, int[] hops, int[] parentEdges, int[] order, int visitedCount, int levels) {
+        this.graph = graph;
+        this.hops = hops;
+        this.parentEdges = parentEdges;
+        this.order = order;
+        this.visitedCount = visitedCount;
+        this.levels = levels;
+    }
+
+    /**
+     * Parcours en largeur sur le pool commun.
+     *
+     * @param deterministic Si true, ordre et arbre identiques au BFS séquentiel.
+     */
+    public static ParallelBFS run(CsrGraph graph, int start, boolean deterministic) {
+        return run(graph, start, deterministic, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parcours en largeur depuis start, niveau par niveau.
+     *
+     * @param graph         La vue CSR.
+     * @param start         Identifiant du nœud de départ.
+     * @param deterministic Si true, ordre et arbre identiques au BFS séquentiel.
+     * @param pool          Le ForkJoinPool sur lequel répartir chaque niveau.
+     */
+    public static ParallelBFS run(CsrGraph graph, int start, boolean deterministic, ForkJoinPool pool) {
+        return new Search(graph, deterministic, pool).run(start);
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    /** @return Le nombre d'arêtes entre le départ et v, ou -1 si v n'est pas atteint. */
+    public int hops(int v) {
+        return hops[v];
+    }
+
+    /** @return L'indice CSR de l'arête qui a fait découvrir v, ou -1 (départ ou non atteint). */
+    public int parentEdge(int v) {
+        return parentEdges[v];
+    }
+
+    /** Nombre de nœuds atteints (départ compris). */
+    public int visitedCount() {
+        return visitedCount;
+    }
+
+    /** Nombre de niveaux (distance maximale + 1). */
+    public int levels() {
+        return levels;
+    }
+
+    /** Le i-ème nœud visité : les nœuds sont rangés par niveau croissant. */
+    public int visited(int i) {
+        return order[i];
+    }
+
+    /**
+     * État d'un parcours. Les tableaux hops et positions ne sont écrits
+     * qu'entre deux niveaux ; pendant un niveau, seuls le bitmap, les clés et
+     * les arêtes parentes sont modifiés par les tâches parallèles.
+     */
+    private static final class Search {
+        private final CsrGraph graph;
+        private final CsrGraph incoming;
+        private final boolean deterministic;
+        private final ForkJoinPool pool;
+        private final int n;
+
+        private final AtomicLongArray visited;
+        private final AtomicLongArray keys; // mode déterministe : (position du parent << 32) | arête
+        private final int[] hops;
+        private final int[] parentEdges;
+        private final int[] positions;      // position de chaque nœud dans son niveau
+
+        // order contient les niveaux bout à bout ; la frontière est order[levelStart, levelEnd)
+        private final int[] order;
+        private final AtomicInteger orderEnd = new AtomicInteger();
+        private int levelStart;
+        private int levelEnd;
+
+        Search(CsrGraph graph, boolean deterministic, ForkJoinPool pool) {
+            this.graph = graph;
+            this.incoming = graph.reverse();
+            this.deterministic = deterministic;
+            this.pool = pool;
+            this.n = graph.nodeCount();
+            this.visited = new AtomicLongArray((n + 63) >>> 6);
+            this.keys = deterministic ? new AtomicLongArray(n) : null;
+            this.hops = new int[n];
+            this.parentEdges = new int[n];
+            this.positions = new int[n];
+            this.order = new int[n];
+            Arrays.fill(hops, -1);
+            Arrays.fill(parentEdges, -1);
+            if (deterministic) {
+                for (int v = 0; v < n; v++) {
+                    keys.set(v, NO_KEY);
+                }
+            }
+        }
+
+        ParallelBFS run(int start) {
+            claim(start);
+            hops[start] = 0;
+            order[0] = start;
+            orderEnd.set(1);
+            levelStart = 0;
+            levelEnd = 1;
+
+            long frontierEdges = graph.degree(start);
+            long unexploredEdges = graph.edgeCount() - frontierEdges;
+            boolean bottomUp = false;
+            int level = 0;
+
+            while (levelStart < levelEnd) {
+                int frontierSize = levelEnd - levelStart;
+                if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                    bottomUp = true;
+                } else if (bottomUp && frontierSize < n / BETA) {
+                    bottomUp = false;
+                }
+
+                if (bottomUp) {
+                    bottomUpStep(level);
+                } else {
+                    topDownStep();
+                }
+
+                int nextEnd = orderEnd.get();
+                if (deterministic) {
+                    sortLevel(levelEnd, nextEnd);
+                }
+
+                level++;
+                frontierEdges = 0;
+                for (int i = levelEnd; i < nextEnd; i++) {
+                    int v = order[i];
+                    hops[v] = level;
+                    positions[v] = i - levelEnd;
+                    frontierEdges += graph.degree(v);
+                }
+                unexploredEdges -= frontierEdges;
+                levelStart = levelEnd;
+                levelEnd = nextEnd;
+            }
+
+            return new ParallelBFS(graph, hops, parentEdges, order, levelEnd, level);
+        }
+
+        /** Chaque nœud de la frontière revendique ses voisins non visités. */
+        private void topDownStep() {
+            Parallel.forRange(pool, levelStart, levelEnd, GRAIN, (from, to) -> {
+                int[] found = new int[64];
+                int count = 0;
+                for (int i = from; i < to; i++) {
+                    int u = order[i];
+                    long position = (long) (i - levelStart) << 32;
+                    for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                        int v = graph.target(e);
+                        if (hops[v] >= 0) {
+                            continue; // visité à un niveau précédent
+                        }
+                        boolean first = claim(v);
+                        if (deterministic) {
+                            lowerKey(v, position | e);
+                        } else if (first) {
+                            parentEdges[v] = e;
+                        }
+                        if (first) {
+                            if (count == found.length) {
+                                found = Arrays.copyOf(found, count * 2);
+                            }
+                            found[count++] = v;
+                        }
+                    }
+                }
+                publish(found, count);
+            });
+        }
+
+        /** Chaque nœud non visité cherche un parent dans la frontière. */
+        private void bottomUpStep(int level) {
+            Parallel.forRange(pool, 0, n, GRAIN, (from, to) -> {
+                int[] found = new int[64];
+                int count = 0;
+                for (int v = from; v < to; v++) {
+                    if (hops[v] >= 0) {
+                        continue;
+                    }
+                    long best = NO_KEY;
+                    for (int r = incoming.firstEdge(v); r < incoming.endEdge(v); r++) {
+                        int u = incoming.target(r);
+                        if (hops[u] != level) {
+                            continue;
+                        }
+                        long key = ((long) positions[u] << 32) | incoming.originalEdge(r);
+                        if (key < best) {
+                            best = key;
+                        }
+                        if (!deterministic) {
+                            break; // n'importe quel parent convient
+                        }
+                    }
+                    if (best == NO_KEY) {
+                        continue;
+                    }
+                    // v n'est examiné que par cette tâche : pas de concurrence sur lui
+                    claim(v);
+                    if (deterministic) {
+                        keys.set(v, best);
+                    } else {
+                        parentEdges[v] = (int) best;
+                    }
+                    if (count == found.length) {
+                        found = Arrays.copyOf(found, count * 2);
+                    }
+                    found[count++] = v;
+                }
+                publish(found, count);
+            });
+        }
+
+        /**
+         * Range le niveau order[from, to) dans l'ordre du BFS séquentiel :
+         * par position du parent, puis par indice d'arête. La clé désigne
+         * l'arête parente, qui désigne elle-même le nœud découvert.
+         */
+        private void sortLevel(int from, int to) {
+            long[] sorted = new long[to - from];
+            for (int i = from; i < to; i++) {
+                sorted[i - from] = keys.get(order[i]);
+            }
+            Arrays.parallelSort(sorted);
+            for (int i = from; i < to; i++) {
+                int e = (int) sorted[i - from];
+                int v = graph.target(e);
+                order[i] = v;
+                parentEdges[v] = e;
+            }
+        }
+
+        /** Ajoute les nœuds trouvés par une tâche à la fin du prochain niveau. */
+        private void publish(int[] found, int count) {
+            if (count > 0) {
+                System.arraycopy(found, 0, order, orderEnd.getAndAdd(count), count);
+            }
+        }
+
+        /** Marque v comme visité ; true si c'est cet appel qui l'a marqué. */
+        private boolean claim(int v) {
+            int word = v >>> 6;
+            long mask = 1L << v;
+            while (true) {
+                long bits = visited.get(word);
+                if ((bits & mask) != 0) {
+                    return false;
+                }
+                if (visited.compareAndSet(word, bits, bits | mask)) {
+                    return true;
+                }
+            }
+        }
+
+        /** Minimum atomique sur la clé de v. */
+        private void lowerKey(int v, long key) {
+            while (true) {
+                long current = keys.get(v);
+                if (key >= current || keys.compareAndSet(v, current, key)) {
+                    return;
+                }
+            }
+        }
+    }
+}
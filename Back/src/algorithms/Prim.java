@@ -11,6 +11,8 @@ public class Prim {
      * L'algorithme démarre d'un nœud source et construit l'arbre
      * en ajoutant l'arête la moins chère qui connecte un nœud de l'arbre
      * à un nœud hors de l'arbre, jusqu'à ce que tous les nœuds soient inclus.
+     * Seule la composante connexe du nœud de départ est couverte : pour un
+     * graphe non connexe, voir SpanningForest.
      *
      * @param graph       Le graphe sur lequel chercher.
      * @param startNodeId L'ID de la ville où commencer la construction de l'arbre.
@@ -19,62 +21,89 @@ public class Prim {
      * - "totalWeight" (Double): Le coût total de l'ACPM.
      */
     public static Map<String, Object> prim(Graph graph, String startNodeId) {
-        List<Edge> mstEdges = new ArrayList<>();
-        Set<Node> visited = new HashSet<>();
-        // Une file de priorité pour stocker les arêtes, triées par poids (croissant)
-        PriorityQueue<Edge> edgeQueue = new PriorityQueue<>(Comparator.comparingDouble(Edge::getWeight));
-        double totalWeight = 0;
+        return prim(graph.freeze(), startNodeId);
+    }
 
-        Node startNode = graph.getNode(startNodeId);
-        if (startNode == null) {
+    /*
+     * Variante de prim(Graph, String) sur la vue CSR du graphe. Même contrat de retour.
+     *
+     * Prim « eager » : au lieu de mettre toutes les arêtes dans la file, on ne
+     * garde pour chaque nœud hors de l'arbre que la meilleure arête qui le
+     * relie à l'arbre, dans un tas indexé avec diminution de clé. Le tas
+     * contient au plus V entrées (contre O(E) entrées périmées auparavant).
+     */
+    public static Map<String, Object> prim(CsrGraph graph, String startNodeId) {
+        int start = graph.idOf(startNodeId);
+        if (start < 0) {
             System.err.println("Nœud de départ " + startNodeId + " introuvable !");
             return Collections.emptyMap();
         }
+        return spanningTree(graph, start).toMap();
+    }
 
-        // 1. Commencer avec le premier nœud
-        addNodeToMST(startNode, visited, edgeQueue);
-
-        // 2. Boucler jusqu'à ce que la file soit vide ou que tous les nœuds soient visités
-        while (!edgeQueue.isEmpty() && visited.size() < graph.getNodes().size()) {
-            // Obtenir l'arête la moins chère de la file
-            Edge minEdge = edgeQueue.poll();
-            Node target = minEdge.getTarget();
-
-            // 3. Vérifier si le nœud cible est déjà dans l'ACPM
-            if (visited.contains(target)) {
-                // Cette arête mène à un nœud déjà visité, on l'ignore (pour éviter un cycle)
-                continue;
-            }
-
-            // 4. C'est une nouvelle arête valide. L'ajouter à l'ACPM.
-            mstEdges.add(minEdge);
-            totalWeight += minEdge.getWeight();
+    /**
+     * Variante typée de {@link #prim(Graph, String)}.
+     *
+     * @throws IllegalArgumentException si le nœud de départ est introuvable.
+     */
+    public static SpanningTreeResult spanningTree(Graph graph, String startNodeId) {
+        CsrGraph csr = graph.freeze();
+        return spanningTree(csr, csr.requireId(startNodeId));
+    }
 
-            // 5. Ajouter le nœud nouvellement atteint (target) à l'ACPM
-            addNodeToMST(target, visited, edgeQueue);
+    /**
+     * Arbre couvrant de poids minimum de la composante de start, sans Map
+     * ni liste d'objets.
+     */
+    public static SpanningTreeResult spanningTree(CsrGraph graph, int start) {
+        int[] treeEdges = new int[Math.max(0, graph.nodeCount() - 1)];
+        double totalWeight = 0;
+        int count;
+        try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+            count = spanningTree(graph, start, ws, treeEdges);
         }
-
-        // Retourner les résultats
-        Map<String, Object> result = new HashMap<>();
-        result.put("edges", mstEdges);
-        result.put("totalWeight", totalWeight);
-        return result;
+        for (int i = 0; i < count; i++) {
+            totalWeight += graph.weight(treeEdges[i]);
+        }
+        return new SpanningTreeResult(graph, treeEdges, count, totalWeight);
     }
 
-    /*
-     * Méthode d'aide pour ajouter un nœud à l'ensemble des nœuds visités (ACPM)
-     * et ajouter toutes ses arêtes sortantes à la file de priorité.
+    /**
+     * Cœur de Prim sur identifiants denses : construit l'arbre couvrant de
+     * poids minimum de la composante de start.
+     *
+     * Dans l'espace de travail, la « distance » d'un nœud est le poids de la
+     * meilleure arête qui le relie à l'arbre, son « prédécesseur » est
+     * l'indice CSR de cette arête, et un nœud finalisé est dans l'arbre.
+     *
+     * @param treeEdges Reçoit les indices CSR des arêtes de l'arbre, dans
+     *                  l'ordre où elles sont ajoutées (taille >= V - 1).
+     * @return Le nombre d'arêtes de l'arbre.
      */
-    private static void addNodeToMST(Node node, Set<Node> visited, PriorityQueue<Edge> edgeQueue) {
-        visited.add(node);
-        // Ajouter toutes les arêtes de ce nœud à la file
-        // La file les triera automatiquement par poids
-        for (Edge edge : node.getEdges()) {
-            // On ajoute seulement les arêtes pointant vers un nœud non visité
-            // (C'est une optimisation; la vérification dans la boucle principale est critique)
-            if (!visited.contains(edge.getTarget())) {
-                edgeQueue.add(edge);
+    public static int spanningTree(CsrGraph graph, int start, QueryWorkspace ws, int[] treeEdges) {
+        ws.reset();
+        IndexedHeap heap = ws.heap();
+        int count = 0;
+
+        ws.update(start, 0.0, -1);
+        heap.push(start, 0.0);
+
+        while (!heap.isEmpty()) {
+            int node = heap.poll();
+            ws.settle(node);
+            if (node != start) {
+                treeEdges[count++] = ws.predecessor(node);
+            }
+
+            // Meilleure arête vers l'arbre pour chaque voisin encore dehors
+            for (int e = graph.firstEdge(node); e < graph.endEdge(node); e++) {
+                int neighbor = graph.target(e);
+                if (!ws.isSettled(neighbor) && graph.weight(e) < ws.distance(neighbor)) {
+                    ws.update(neighbor, graph.weight(e), e);
+                    heap.push(neighbor, graph.weight(e));
+                }
             }
         }
+        return count;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,208 @@
+package algorithms;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * Espace de travail réutilisable pour les requêtes de plus court chemin sur un CsrGraph.
+ *
+ * Les distances et prédécesseurs sont stockés dans des tableaux primitifs dont
+ * chaque case porte un numéro de génération : une case écrite lors d'une requête
+ * précédente est simplement considérée comme vide. Passer à la requête suivante
+ * coûte donc O(1) (plus le vidage du tas, proportionnel à sa taille) au lieu de
+ * O(V), et seuls les nœuds réellement touchés sont parcourus.
+ *
+ * Utilisation typique :
+ * <pre>
+ * try (QueryWorkspace ws = QueryWorkspace.acquire(graph.nodeCount())) {
+ *     Dijkstra.shortestPath(graph, start, end, ws);
+ *     double d = ws.distance(end);
+ * }
+ * </pre>
+ */
+public final class QueryWorkspace implements AutoCloseable {
+    // Nombre d'espaces conservés par thread (une requête bidirectionnelle en utilise deux)
+    private static final int POOL_SIZE = 4;
+    private static final ThreadLocal<ArrayDeque<QueryWorkspace>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final double[] distances;
+    private final int[] predecessors;
+    private final int[] stamps;        // génération de la dernière écriture de chaque case
+    private final int[] settledStamps; // génération à laquelle le nœud a été finalisé
+    private final int[] touched;       // nœuds écrits pendant la requête courante
+    private int touchedCount;
+    private int generation;
+
+    private final IndexedHeap heap;
+    private boolean pooled; // true tant que l'espace attend dans le pool
+
+    // État auxiliaire des parcours à file (Bellman-Ford / SPFA), créé au premier usage
+    private int[] queue;
+    private int[] queuedStamps; // génération à laquelle le nœud a été mis en file (0 : retiré)
+    private int[] counts;
+    private int[] marks;
+    private int mark;
+
+    public QueryWorkspace(int capacity) {
+        this.distances = new double[capacity];
+        this.predecessors = new int[capacity];
+        this.stamps = new int[capacity];
+        this.settledStamps = new int[capacity];
+        this.touched = new int[capacity];
+        this.heap = new IndexedHeap(capacity);
+        this.generation = 1;
+    }
+
+    /**
+     * Emprunte un espace de travail d'au moins capacity cases au pool du thread
+     * courant (ou en crée un), déjà réinitialisé.
+     */
+    public static QueryWorkspace acquire(int capacity) {
+        ArrayDeque<QueryWorkspace> pool = POOL.get();
+        QueryWorkspace ws = pool.pollFirst();
+        if (ws == null || ws.capacity() < capacity) {
+            ws = new QueryWorkspace(capacity);
+        } else {
+            ws.pooled = false;
+        }
+        ws.reset();
+        return ws;
+    }
+
+    /**
+     * Rend l'espace au pool du thread courant. Un second appel est sans
+     * effet : le même espace ne doit jamais figurer deux fois dans le pool,
+     * sinon deux acquire() successifs (recherche bidirectionnelle) le
+     * partageraient.
+     */
+    @Override
+    public void close() {
+        if (pooled) {
+            return;
+        }
+        ArrayDeque<QueryWorkspace> pool = POOL.get();
+        if (pool.size() < POOL_SIZE) {
+            pooled = true;
+            pool.addFirst(this);
+        }
+    }
+
+    public int capacity() {
+        return distances.length;
+    }
+
+    /** Oublie la requête précédente. */
+    public void reset() {
+        heap.clear();
+        touchedCount = 0;
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Rebouclage du compteur : cas rarissime, on paie O(V) une fois
+            Arrays.fill(stamps, 0);
+            Arrays.fill(settledStamps, 0);
+            if (queuedStamps != null) {
+                Arrays.fill(queuedStamps, 0);
+            }
+            generation = 1;
+        }
+    }
+
+    /** @return true si le nœud a reçu une distance pendant la requête courante. */
+    public boolean isTouched(int v) {
+        return stamps[v] == generation;
+    }
+
+    /** @return La distance du nœud, infinie s'il n'a pas été atteint. */
+    public double distance(int v) {
+        return stamps[v] == generation ? distances[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /** @return Le prédécesseur du nœud, ou -1 s'il n'en a pas. */
+    public int predecessor(int v) {
+        return stamps[v] == generation ? predecessors[v] : -1;
+    }
+
+    /** Enregistre une nouvelle distance et son prédécesseur pour v. */
+    public void update(int v, double distance, int predecessor) {
+        if (stamps[v] != generation) {
+            stamps[v] = generation;
+            touched[touchedCount++] = v;
+        }
+        distances[v] = distance;
+        predecessors[v] = predecessor;
+    }
+
+    public boolean isSettled(int v) {
+        return settledStamps[v] == generation;
+    }
+
+    public void settle(int v) {
+        settledStamps[v] = generation;
+    }
+
+    /** Nombre de nœuds touchés par la requête courante. */
+    public int touchedCount() {
+        return touchedCount;
+    }
+
+    /**
+     * Le i-ème nœud touché, dans l'ordre de première écriture.
+     * Pour un parcours en largeur, c'est exactement l'ordre de la file.
+     */
+    public int touched(int i) {
+        return touched[i];
+    }
+
+    public IndexedHeap heap() {
+        return heap;
+    }
+
+    /** File circulaire de capacity() cases, réutilisée d'une requête à l'autre (contenu indéfini). */
+    int[] queue() {
+        if (queue == null) {
+            queue = new int[capacity()];
+        }
+        return queue;
+    }
+
+    /** @return true si v a été mis en file pendant la requête courante et n'en est pas sorti. */
+    boolean isQueued(int v) {
+        return queuedStamps != null && queuedStamps[v] == generation;
+    }
+
+    void setQueued(int v, boolean queued) {
+        if (queuedStamps == null) {
+            queuedStamps = new int[capacity()];
+        }
+        queuedStamps[v] = queued ? generation : 0;
+    }
+
+    /**
+     * Compteurs par nœud (nombre d'arêtes d'un chemin, par exemple), jamais
+     * remis à zéro : l'appelant ne lit que les cases qu'il a écrites pendant
+     * la requête courante.
+     */
+    int[] counts() {
+        if (counts == null) {
+            counts = new int[capacity()];
+        }
+        return counts;
+    }
+
+    /** Marques de {@link #nextMark()} : une case vaut la marque courante si elle a été marquée depuis. */
+    int[] marks() {
+        if (marks == null) {
+            marks = new int[capacity()];
+        }
+        return marks;
+    }
+
+    /** Nouvelle valeur de marque, différente de toutes celles déjà présentes dans marks(). */
+    int nextMark() {
+        if (++mark == Integer.MAX_VALUE) {
+            Arrays.fill(marks(), 0);
+            mark = 1;
+        }
+        return mark;
+    }
+}
@@ -0,0 +1,74 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Tri par base (LSD) d'indices selon une clé double, sans objets ni comparateur.
+ *
+ * Chaque double est converti en un long dont l'ordre non signé est celui de
+ * Double.compare, puis trié octet par octet (8 passes au plus, chacune
+ * stable). Les passes dont l'octet est identique pour toutes les clés sont
+ * sautées : pour des poids entiers de petite taille, il n'en reste que deux
+ * ou trois.
+ */
+final class RadixSort {
+
+    private RadixSort() {
+    }
+
+    /**
+     * Trie indices[0..count) par keys[i] croissant (keys[i] étant la clé de
+     * indices[i]). Le tri est stable : à clé égale, l'ordre initial est conservé.
+     *
+     * @return Les indices triés (un nouveau tableau, ou indices lui-même).
+     */
+    static int[] sortByKey(int[] indices, double[] keys, int count) {
+        if (count < 2) {
+            return indices;
+        }
+        long[] bits = new long[count];
+        long differing = 0;
+        for (int i = 0; i < count; i++) {
+            bits[i] = sortableBits(keys[i]);
+            differing |= bits[i] ^ bits[0];
+        }
+
+        int[] idx = indices;
+        int[] idxBuffer = new int[count];
+        long[] bitsBuffer = new long[count];
+        int[] counts = new int[257];
+        for (int shift = 0; shift < 64; shift += 8) {
+            if (((differing >>> shift) & 0xFF) == 0) {
+                continue; // octet identique partout : la passe ne changerait rien
+            }
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < count; i++) {
+                counts[(int) ((bits[i] >>> shift) & 0xFF) + 1]++;
+            }
+            for (int b = 0; b < 256; b++) {
+                counts[b + 1] += counts[b];
+            }
+            for (int i = 0; i < count; i++) {
+                int slot = counts[(int) ((bits[i] >>> shift) & 0xFF)]++;
+                idxBuffer[slot] = idx[i];
+                bitsBuffer[slot] = bits[i];
+            }
+            int[] swapIdx = idx;
+            idx = idxBuffer;
+            idxBuffer = swapIdx;
+            long[] swapBits = bits;
+            bits = bitsBuffer;
+            bitsBuffer = swapBits;
+        }
+        return idx;
+    }
+
+    /**
+     * Long dont l'ordre non signé est celui de Double.compare : on inverse
+     * tous les bits des négatifs, et seulement le bit de signe des positifs.
+     */
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,103 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Node;
+
+import java.util.*;
+
+/**
+ * Résultat d'une recherche de plus court chemin entre deux nœuds : la
+ * distance et la suite des identifiants denses du chemin.
+ *
+ * La liste de Node n'est construite qu'à la demande ({@link #path()}).
+ */
+public final class ShortestPathResult {
+    private static final int[] NO_PATH = new int[0];
+
+    private final CsrGraph graph;
+    private final int start;
+    private final int end;
+    private final double distance;
+    private final int[] path; // départ -> arrivée, vide s'il n'y a pas de chemin
+
+    ShortestPathResult(CsrGraph graph, int start, int end, double distance, int[] path) {
+        this.graph = graph;
+        this.start = start;
+        this.end = end;
+        this.distance = distance;
+        this.path = path;
+    }
+
+    /**
+     * Lit le chemin de start à end dans les prédécesseurs d'un espace de
+     * travail, avant qu'il ne retourne au pool.
+     */
+    static ShortestPathResult from(CsrGraph graph, int start, int end, QueryWorkspace ws) {
+        if (ws.predecessor(end) < 0 && end != start) {
+            return new ShortestPathResult(graph, start, end, Double.POSITIVE_INFINITY, NO_PATH); // Pas de chemin
+        }
+
+        int length = 0;
+        for (int step = end; step >= 0; step = ws.predecessor(step)) {
+            length++;
+        }
+        int[] path = new int[length];
+        for (int step = end, i = length - 1; step >= 0; step = ws.predecessor(step), i--) {
+            path[i] = step;
+        }
+        return new ShortestPathResult(graph, start, end, ws.distance(end), path);
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public int end() {
+        return end;
+    }
+
+    /** @return true si un chemin existe. */
+    public boolean found() {
+        return path.length > 0;
+    }
+
+    /** Longueur du chemin (infinie s'il n'y en a pas). */
+    public double distance() {
+        return distance;
+    }
+
+    /** Nombre de nœuds du chemin, départ et arrivée compris (0 s'il n'y en a pas). */
+    public int pathLength() {
+        return path.length;
+    }
+
+    /** Le i-ème nœud du chemin, en partant du départ. */
+    public int pathNode(int i) {
+        return path[i];
+    }
+
+    /** @return Les nœuds du chemin (départ -> arrivée), construits à chaque appel. */
+    public List<Node> path() {
+        List<Node> nodes = new ArrayList<>(path.length);
+        for (int v : path) {
+            nodes.add(graph.node(v));
+        }
+        return nodes;
+    }
+
+    /**
+     * Format de retour historique de Dijkstra.dijkstra :
+     * - "path" (List<Node>)
+     * - "distance" (Double)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("path", path());
+        result.put("distance", distance);
+        return result;
+    }
+}
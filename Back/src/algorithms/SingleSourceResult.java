@@ -0,0 +1,208 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Node;
+
+import java.util.*;
+
+/**
+ * Résultat d'un calcul de plus courts chemins depuis une source : distance
+ * et prédécesseur de chaque nœud atteint, ou un cycle de poids négatif si
+ * les distances n'existent pas.
+ *
+ * Seuls les nœuds touchés par la recherche sont copiés hors de l'espace de
+ * travail : le coût ne dépend pas de la taille du graphe quand la recherche
+ * reste locale. Un nœud non atteint a une distance infinie et pas de
+ * prédécesseur. Les chemins ne sont reconstruits qu'à la demande
+ * ({@link #path(int)}).
+ */
+public final class SingleSourceResult {
+    private final CsrGraph graph;
+    private final int source;
+    private final int[] reached;      // nœuds atteints, par identifiant croissant (null si cycle négatif)
+    private final boolean dense;      // true : distances et predecessors indexés par nœud, sinon alignés sur reached
+    private final double[] distances;
+    private final int[] predecessors;
+    private final int[] cycle;        // null s'il n'y a pas de cycle négatif
+
+    private SingleSourceResult(CsrGraph graph, int source, int[] reached, boolean dense,
+                               double[] distances, int[] predecessors, int[] cycle) {
+        this.graph = graph;
+        this.source = source;
+        this.reached = reached;
+        this.dense = dense;
+        this.distances = distances;
+        this.predecessors = predecessors;
+        this.cycle = cycle;
+    }
+
+    /**
+     * Copie les distances et prédécesseurs des nœuds touchés d'un espace de
+     * travail, avant qu'il ne retourne au pool : en O(t log t) pour t nœuds
+     * touchés. Quand la recherche a touché au moins la moitié du graphe, les
+     * tableaux sont indexés directement par nœud (même ordre de coût, lecture
+     * sans recherche dichotomique).
+     */
+    static SingleSourceResult from(CsrGraph graph, int source, QueryWorkspace ws) {
+        int n = graph.nodeCount();
+        int count = ws.touchedCount();
+        int[] reached = new int[count];
+        for (int i = 0; i < count; i++) {
+            reached[i] = ws.touched(i);
+        }
+        Arrays.sort(reached);
+
+        boolean dense = 2L * count >= n;
+        int size = dense ? n : count;
+        double[] distances = new double[size];
+        int[] predecessors = new int[size];
+        if (dense) {
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+            Arrays.fill(predecessors, -1);
+        }
+        for (int i = 0; i < count; i++) {
+            int v = reached[i];
+            int slot = dense ? v : i;
+            distances[slot] = ws.distance(v);
+            predecessors[slot] = ws.predecessor(v);
+        }
+        return new SingleSourceResult(graph, source, reached, dense, distances, predecessors, null);
+    }
+
+    /** Résultat d'une source qui atteint un cycle de poids négatif. */
+    static SingleSourceResult negativeCycle(CsrGraph graph, int source, int[] cycle) {
+        return new SingleSourceResult(graph, source, null, false, null, null, cycle);
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    public int source() {
+        return source;
+    }
+
+    /** @return true si un cycle de poids négatif est accessible depuis la source. */
+    public boolean hasNegativeCycle() {
+        return cycle != null;
+    }
+
+    /** Nombre de nœuds du cycle négatif (0 s'il n'y en a pas). */
+    public int cycleLength() {
+        return cycle == null ? 0 : cycle.length;
+    }
+
+    /** Le i-ème nœud du cycle négatif, dans le sens des arêtes. */
+    public int cycleNode(int i) {
+        return cycle[i];
+    }
+
+    /** @return Les nœuds du cycle négatif, dans l'ordre (vide s'il n'y en a pas). */
+    public List<Node> negativeCycle() {
+        List<Node> nodes = new ArrayList<>(cycleLength());
+        for (int i = 0; i < cycleLength(); i++) {
+            nodes.add(graph.node(cycle[i]));
+        }
+        return nodes;
+    }
+
+    /**
+     * Distance de la source à v (infinie si v est inaccessible).
+     *
+     * @throws IllegalStateException s'il y a un cycle négatif.
+     */
+    public double distance(int v) {
+        checkNoCycle();
+        if (dense) {
+            return distances[v];
+        }
+        int i = Arrays.binarySearch(reached, v);
+        return i >= 0 ? distances[i] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @return Le prédécesseur de v sur son plus court chemin, ou -1 (source ou inaccessible).
+     * @throws IllegalStateException s'il y a un cycle négatif.
+     */
+    public int predecessor(int v) {
+        checkNoCycle();
+        if (dense) {
+            return predecessors[v];
+        }
+        int i = Arrays.binarySearch(reached, v);
+        return i >= 0 ? predecessors[i] : -1;
+    }
+
+    /**
+     * Nombre de nœuds atteints, source comprise.
+     *
+     * @throws IllegalStateException s'il y a un cycle négatif.
+     */
+    public int reachedCount() {
+        checkNoCycle();
+        return reached.length;
+    }
+
+    /** Le i-ème nœud atteint, par identifiant croissant. */
+    public int reached(int i) {
+        checkNoCycle();
+        return reached[i];
+    }
+
+    /**
+     * Plus court chemin de la source à target.
+     *
+     * @return Les nœuds du chemin (départ -> arrivée), vide si target est inaccessible.
+     * @throws IllegalStateException s'il y a un cycle négatif.
+     */
+    public List<Node> path(int target) {
+        checkNoCycle();
+        List<Node> path = new ArrayList<>();
+        if (distance(target) == Double.POSITIVE_INFINITY) {
+            return path; // Pas de chemin
+        }
+        for (int step = target; step >= 0; step = predecessor(step)) {
+            path.add(graph.node(step));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Format de retour historique de BellmanFord.findShortestPaths :
+     * - "negativeCycle" (Boolean)
+     * - "cycle" (List<Node>) : si negativeCycle
+     * - "distances" (Map<Node, Double>) et "predecessors" (Map<Node, Node>) : sinon
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("negativeCycle", hasNegativeCycle());
+        if (hasNegativeCycle()) {
+            result.put("cycle", negativeCycle());
+            return result;
+        }
+
+        Map<Node, Double> distanceMap = new HashMap<>();
+        Map<Node, Node> predecessorMap = new HashMap<>();
+        // Le format historique liste tous les nœuds, atteints ou non : O(V) ici
+        for (int v = 0; v < graph.nodeCount(); v++) {
+            distanceMap.put(graph.node(v), Double.POSITIVE_INFINITY);
+        }
+        for (int v : reached) {
+            distanceMap.put(graph.node(v), distance(v));
+            int predecessor = predecessor(v);
+            if (predecessor >= 0) {
+                predecessorMap.put(graph.node(v), graph.node(predecessor));
+            }
+        }
+        result.put("distances", distanceMap);
+        result.put("predecessors", predecessorMap);
+        return result;
+    }
+
+    private void checkNoCycle() {
+        if (cycle != null) {
+            throw new IllegalStateException("Cycle de poids négatif : pas de plus courts chemins");
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Edge;
+import models.Graph;
+import models.Node;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Forêt couvrante de poids minimum d'un graphe éventuellement non connexe :
+ * un arbre par composante connexe, avec l'identifiant de composante de
+ * chaque nœud et le poids total de chaque arbre.
+ *
+ * Le calcul est une seule passe de Borůvka parallèle ({@link Boruvka}) :
+ * l'Union-Find qui sert à fusionner les composantes de l'arbre contient, à
+ * la fin, exactement les composantes connexes. Il n'y a donc pas de passe
+ * de connexité séparée. Les arêtes sont considérées sans orientation, comme
+ * dans Kruskal, et les arbres sont ceux de {@link Kruskal#traverse(Graph)}.
+ *
+ * Les composantes sont numérotées 0..componentCount()-1 dans l'ordre de
+ * leur plus petit identifiant de nœud.
+ */
+public final class SpanningForest {
+    private final CsrGraph graph;
+    private final int[] componentOf;
+    private final int[] nodeOffsets; // nœuds de la composante c : nodes[nodeOffsets[c], nodeOffsets[c+1])
+    private final int[] nodes;
+    private final int[] edgeOffsets; // arêtes de l'arbre c : edges[edgeOffsets[c], edgeOffsets[c+1])
+    private final int[] edges;
+    private final double[] weights;
+
+    private SpanningForest(CsrGraph graph, int[] componentOf, int[] nodeOffsets, int[] nodes,
+                           int[] edgeOffsets, int[] edges, double[] weights) {
+        this.graph = graph;
+        this.componentOf = componentOf;
+        this.nodeOffsets = nodeOffsets;
+        this.nodes = nodes;
+        this.edgeOffsets = edgeOffsets;
+        this.edges = edges;
+        this.weights = weights;
+    }
+
+    public static SpanningForest compute(Graph graph) {
+        return compute(graph.freeze());
+    }
+
+    public static SpanningForest compute(CsrGraph graph) {
+        return compute(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool Le ForkJoinPool sur lequel répartir le calcul.
+     */
+    public static SpanningForest compute(CsrGraph graph, ForkJoinPool pool) {
+        int n = graph.nodeCount();
+        ConcurrentDisjointSet uf = new ConcurrentDisjointSet(n);
+        int[] forest = Boruvka.spanningForest(graph, pool, uf);
+
+        // 1. Numéroter les composantes (la racine est le plus petit nœud de l'ensemble)
+        int[] componentOf = new int[n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = uf.find(v);
+            componentOf[v] = root == v ? count++ : componentOf[root];
+        }
+
+        // 2. Regrouper nœuds et arêtes par composante (tri par dénombrement, stable)
+        int[] nodeOffsets = new int[count + 1];
+        for (int v = 0; v < n; v++) {
+            nodeOffsets[componentOf[v] + 1]++;
+        }
+        int[] edgeOffsets = new int[count + 1];
+        for (int e : forest) {
+            edgeOffsets[componentOf[graph.target(e)] + 1]++;
+        }
+        for (int c = 0; c < count; c++) {
+            nodeOffsets[c + 1] += nodeOffsets[c];
+            edgeOffsets[c + 1] += edgeOffsets[c];
+        }
+
+        int[] nodes = new int[n];
+        int[] cursor = Arrays.copyOf(nodeOffsets, count);
+        for (int v = 0; v < n; v++) {
+            nodes[cursor[componentOf[v]]++] = v;
+        }
+        int[] edges = new int[forest.length];
+        double[] weights = new double[count];
+        cursor = Arrays.copyOf(edgeOffsets, count);
+        for (int e : forest) {
+            int c = componentOf[graph.target(e)];
+            edges[cursor[c]++] = e;
+            weights[c] += graph.weight(e);
+        }
+
+        return new SpanningForest(graph, componentOf, nodeOffsets, nodes, edgeOffsets, edges, weights);
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    /** Nombre de composantes connexes (et donc d'arbres). */
+    public int componentCount() {
+        return weights.length;
+    }
+
+    /** @return L'identifiant de la composante du nœud v. */
+    public int componentOf(int v) {
+        return componentOf[v];
+    }
+
+    /** Variante de {@link #componentOf(int)} par nom de nœud. */
+    public int componentOf(String nodeId) {
+        int v = graph.idOf(nodeId);
+        if (v < 0) {
+            throw new IllegalArgumentException("Nœud introuvable : " + nodeId);
+        }
+        return componentOf[v];
+    }
+
+    /** Nombre de nœuds de la composante c. */
+    public int componentSize(int c) {
+        return nodeOffsets[c + 1] - nodeOffsets[c];
+    }
+
+    /** @return Les identifiants des nœuds de la composante c, par ordre croissant. */
+    public int[] componentNodes(int c) {
+        return Arrays.copyOfRange(nodes, nodeOffsets[c], nodeOffsets[c + 1]);
+    }
+
+    /** @return Les indices CSR des arêtes de l'arbre de la composante c, par poids croissant. */
+    public int[] treeEdges(int c) {
+        return Arrays.copyOfRange(edges, edgeOffsets[c], edgeOffsets[c + 1]);
+    }
+
+    /** Poids total de l'arbre de la composante c. */
+    public double totalWeight(int c) {
+        return weights[c];
+    }
+
+    /** Poids total de la forêt. */
+    public double totalWeight() {
+        double total = 0;
+        for (double w : weights) {
+            total += w;
+        }
+        return total;
+    }
+
+    /** @return Les nœuds de la composante c. */
+    public List<Node> nodes(int c) {
+        List<Node> result = new ArrayList<>(componentSize(c));
+        for (int i = nodeOffsets[c]; i < nodeOffsets[c + 1]; i++) {
+            result.add(graph.node(nodes[i]));
+        }
+        return result;
+    }
+
+    /** @return Les arêtes de l'arbre de la composante c. */
+    public List<Edge> edges(int c) {
+        List<Edge> result = new ArrayList<>(edgeOffsets[c + 1] - edgeOffsets[c]);
+        for (int i = edgeOffsets[c]; i < edgeOffsets[c + 1]; i++) {
+            result.add(graph.edge(edges[i]));
+        }
+        return result;
+    }
+}
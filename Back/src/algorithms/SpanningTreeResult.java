@@ -0,0 +1,65 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Edge;
+
+import java.util.*;
+
+/**
+ * Résultat d'un calcul d'arbre couvrant de poids minimum : les indices CSR
+ * des arêtes retenues et leur poids total.
+ *
+ * La liste d'Edge n'est construite qu'à la demande ({@link #edges()}).
+ */
+public final class SpanningTreeResult {
+    private final CsrGraph graph;
+    private final int[] edges; // edges[0, edgeCount)
+    private final int edgeCount;
+    private final double totalWeight;
+
+    SpanningTreeResult(CsrGraph graph, int[] edges, int edgeCount, double totalWeight) {
+        this.graph = graph;
+        this.edges = edges;
+        this.edgeCount = edgeCount;
+        this.totalWeight = totalWeight;
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    /** Nombre d'arêtes de l'arbre. */
+    public int edgeCount() {
+        return edgeCount;
+    }
+
+    /** Indice CSR de la i-ème arête, dans l'ordre où elle a été ajoutée. */
+    public int edge(int i) {
+        return edges[i];
+    }
+
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    /** @return Les arêtes de l'arbre, construites à chaque appel. */
+    public List<Edge> edges() {
+        List<Edge> list = new ArrayList<>(edgeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            list.add(graph.edge(edges[i]));
+        }
+        return list;
+    }
+
+    /**
+     * Format de retour historique de Prim.prim :
+     * - "edges" (List<Edge>)
+     * - "totalWeight" (Double)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("edges", edges());
+        result.put("totalWeight", totalWeight);
+        return result;
+    }
+}
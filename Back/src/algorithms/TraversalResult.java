@@ -0,0 +1,96 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Edge;
+import models.Node;
+
+import java.util.*;
+
+/**
+ * Résultat d'un parcours (BFS ou DFS) : l'ordre de visite et les arêtes de
+ * l'arbre de parcours, en identifiants denses du CsrGraph parcouru.
+ *
+ * Les listes de Node et d'Edge ne sont construites qu'à la demande
+ * ({@link #visitOrder()}, {@link #treeEdges()}) ; les appels sur le chemin
+ * critique lisent directement les tableaux via visited(i) et treeEdge(i).
+ */
+public final class TraversalResult {
+    private final CsrGraph graph;
+    private final int[] order;     // order[0, visitedCount) : nœuds dans l'ordre de visite
+    private final int visitedCount;
+    private final int[] treeEdges; // treeEdges[0, visitedCount - 1) : indices CSR, dans l'ordre de découverte
+
+    TraversalResult(CsrGraph graph, int[] order, int visitedCount, int[] treeEdges) {
+        this.graph = graph;
+        this.order = order;
+        this.visitedCount = visitedCount;
+        this.treeEdges = treeEdges;
+    }
+
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    /** Identifiant du nœud de départ. */
+    public int start() {
+        return order[0];
+    }
+
+    /** Nombre de nœuds visités (départ compris). */
+    public int visitedCount() {
+        return visitedCount;
+    }
+
+    /** Le i-ème nœud visité. */
+    public int visited(int i) {
+        return order[i];
+    }
+
+    /** Nombre d'arêtes de l'arbre de parcours (visitedCount() - 1). */
+    public int treeEdgeCount() {
+        return visitedCount - 1;
+    }
+
+    /** Indice CSR de la i-ème arête de l'arbre, dans l'ordre de découverte. */
+    public int treeEdge(int i) {
+        return treeEdges[i];
+    }
+
+    /** @return L'ordre de visite, construit à chaque appel. */
+    public List<Node> visitOrder() {
+        List<Node> nodes = new ArrayList<>(visitedCount);
+        for (int i = 0; i < visitedCount; i++) {
+            nodes.add(graph.node(order[i]));
+        }
+        return nodes;
+    }
+
+    /** @return Les arêtes de l'arbre de parcours, construites à chaque appel. */
+    public List<Edge> treeEdges() {
+        List<Edge> edges = new ArrayList<>(treeEdgeCount());
+        for (int i = 0; i < treeEdgeCount(); i++) {
+            edges.add(graph.edge(treeEdges[i]));
+        }
+        return edges;
+    }
+
+    /**
+     * Format de retour historique de BFS.bfs et DFS.dfs :
+     * - "visitOrder" (List<Node>)
+     * - "treeEdges" (List<Edge>)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> results = new HashMap<>();
+        results.put("visitOrder", visitOrder());
+        results.put("treeEdges", treeEdges());
+        return results;
+    }
+
+    /** Résultat vide des adaptateurs historiques quand le départ est introuvable. */
+    static Map<String, Object> emptyMap() {
+        Map<String, Object> results = new HashMap<>();
+        results.put("visitOrder", new ArrayList<Node>());
+        results.put("treeEdges", new ArrayList<Edge>());
+        return results;
+    }
+}
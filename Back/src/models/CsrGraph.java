@@ -0,0 +1,567 @@
+package models;
+
+import java.util.*;
+
+/**
+ * Vue immuable d'un {@link Graph} au format CSR (Compressed Sparse Row),
+ * ou graphe construit directement dans ce format ({@link GraphGenerators}).
+ *
+ * Les nœuds reçoivent un identifiant entier dense (0..n-1) et les arêtes
+ * sortantes du nœud u occupent les cases [offsets[u], offsets[u+1]) des
+ * tableaux targets et weights. Les parcours n'ont donc plus besoin de
+ * suivre des pointeurs ni de hacher des chaînes.
+ *
+ * Les identifiants sont attribués dans l'ordre de graph.getNodes() et les
+ * arêtes de chaque nœud gardent l'ordre de node.getEdges() : un algorithme
+ * sur la vue CSR visite donc les arêtes dans le même ordre que sur le Graph.
+ *
+ * Une arête non dirigée apparaît dans les lignes de ses deux extrémités,
+ * avec le même objet Edge ; la copie rangée chez la cible est signalée par
+ * {@link #isReverseCopy(int)}.
+ *
+ * {@link #reverse()} donne le graphe transposé (arêtes entrantes), construit
+ * à la première demande puis conservé.
+ */
+public final class CsrGraph {
+    private final String[] names;          // null : le nom d'un nœud est son identifiant en décimal
+    private final Map<String, Integer> ids; // null si names est null
+    private final int firstName;            // sans names : le nœud i s'appelle "firstName + i"
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final double[] xs;
+    private final double[] ys;
+
+    // Objets d'origine, pour rendre des résultats en Node / Edge (partagés par toutes les vues)
+    private final Originals originals;
+
+    // reverseCopies[e] : e est la copie d'une arête non dirigée rangée chez sa cible (null si aucune)
+    private final boolean[] reverseCopies;
+
+    // Transposé uniquement : origins[e] = indice de la même arête dans le graphe direct
+    private final int[] origins;
+
+    // Graphe transposé, construit à la demande
+    private volatile CsrGraph reverse;
+
+    private CsrGraph(String[] names, Map<String, Integer> ids, int firstName, int[] offsets, int[] targets,
+                     double[] weights, double[] xs, double[] ys, Originals originals,
+                     boolean[] reverseCopies, int[] origins) {
+        this.names = names;
+        this.ids = ids;
+        this.firstName = firstName;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.xs = xs;
+        this.ys = ys;
+        this.originals = originals;
+        this.reverseCopies = reverseCopies;
+        this.origins = origins;
+    }
+
+    private static boolean[] reverseCopies(Node[] nodes, int[] offsets, Edge[] edges) {
+        boolean[] copies = null;
+        for (int u = 0; u < nodes.length; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if (edges[e].getSource() != nodes[u]) {
+                    if (copies == null) {
+                        copies = new boolean[edges.length];
+                    }
+                    copies[e] = true;
+                }
+            }
+        }
+        return copies;
+    }
+
+    private static Map<String, Integer> indexNames(String[] names) {
+        Map<String, Integer> ids = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            ids.put(names[i], i);
+        }
+        return ids;
+    }
+
+    /**
+     * Construit la vue CSR d'un graphe.
+     *
+     * @param graph Le graphe à figer.
+     * @return Une vue immuable ; les modifications ultérieures du graphe ne s'y reflètent pas.
+     */
+    public static CsrGraph from(Graph graph) {
+        int n = graph.getNodes().size();
+        Node[] nodes = new Node[n];
+        String[] names = new String[n];
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        Map<Node, Integer> index = new IdentityHashMap<>(n);
+
+        int m = 0;
+        int i = 0;
+        for (Node node : graph.getNodes()) {
+            nodes[i] = node;
+            names[i] = node.getId();
+            xs[i] = node.getX();
+            ys[i] = node.getY();
+            index.put(node, i);
+            m += node.getEdges().size();
+            i++;
+        }
+
+        int[] offsets = new int[n + 1];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        Edge[] edges = new Edge[m];
+
+        int e = 0;
+        for (int u = 0; u < n; u++) {
+            offsets[u] = e;
+            for (Edge edge : nodes[u].getEdges()) {
+                targets[e] = index.get(edge.getOpposite(nodes[u]));
+                weights[e] = edge.getWeight();
+                edges[e] = edge;
+                e++;
+            }
+        }
+        offsets[n] = e;
+
+        Originals originals = new Originals(false);
+        originals.nodes = nodes;
+        originals.edges = edges;
+        return new CsrGraph(names, indexNames(names), 0, offsets, targets, weights, xs, ys, originals,
+                reverseCopies(nodes, offsets, edges), null);
+    }
+
+    /**
+     * Source d'arêtes rejouable : chaque appel à {@link #forEach} doit
+     * produire exactement les mêmes arêtes, dans le même ordre.
+     */
+    @FunctionalInterface
+    interface EdgeStream {
+        void forEach(EdgeSink sink);
+    }
+
+    @FunctionalInterface
+    interface EdgeSink {
+        void accept(int source, int target, double weight);
+    }
+
+    /**
+     * Construit directement un graphe CSR, sans objets Node / Edge, en deux
+     * passes sur edges : la première compte le degré de chaque nœud, la
+     * seconde range les arêtes à leur place. Aucune liste d'arêtes
+     * intermédiaire n'est conservée ; la mémoire se limite aux tableaux CSR.
+     *
+     * Les nœuds n'ont pas de nom propre : le nom du nœud i est "i". Les objets
+     * Node et Edge ne sont créés qu'à la première demande ({@link #node(int)},
+     * {@link #edge(int)}).
+     *
+     * @param nodeCount  Nombre de nœuds.
+     * @param xs         Abscisses (nodeCount valeurs), ou null.
+     * @param ys         Ordonnées (nodeCount valeurs), ou null.
+     * @param undirected true : chaque arête u - v est aussi rangée chez v (copie inverse).
+     * @throws IllegalArgumentException si une extrémité sort de [0, nodeCount)
+     * ou si le graphe dépasse la capacité d'un tableau.
+     */
+    static CsrGraph build(int nodeCount, double[] xs, double[] ys, boolean undirected, EdgeStream edges) {
+        if (nodeCount < 0) {
+            throw new IllegalArgumentException("Nombre de nœuds négatif : " + nodeCount);
+        }
+        return build(nodeCount, 0, xs, ys, undirected, edges);
+    }
+
+    /**
+     * Variante de {@link #build(int, double[], double[], boolean, EdgeStream)}
+     * pour les chargeurs de fichiers.
+     *
+     * @param nodeCount Nombre de nœuds, ou -1 pour le déduire de la plus grande extrémité rencontrée.
+     * @param firstName Nom (numérique) du nœud 0 : le nœud i s'appelle "firstName + i".
+     */
+    static CsrGraph build(int nodeCount, int firstName, double[] xs, double[] ys, boolean undirected, EdgeStream edges) {
+        // 1. Compter les arêtes sortantes de chaque nœud
+        DegreeCounter counter = new DegreeCounter(nodeCount, undirected);
+        edges.forEach(counter);
+        int n = counter.nodeCount;
+        if (xs == null) {
+            xs = new double[n];
+        }
+        if (ys == null) {
+            ys = new double[n];
+        }
+        if (xs.length != n || ys.length != n) {
+            throw new IllegalArgumentException("Il faut une coordonnée par nœud");
+        }
+        int[] offsets = new int[n + 1];
+        long total = 0;
+        for (int u = 0; u < n; u++) {
+            total += counter.degrees[u];
+            if (total > Integer.MAX_VALUE - 8) {
+                throw new IllegalArgumentException("Trop d'arêtes pour un tableau : plus de " + total);
+            }
+            offsets[u + 1] = (int) total;
+        }
+        counter = null; // Les degrés ne servent plus : libérer avant d'allouer les arêtes
+        int m = (int) total;
+
+        // 2. Remplir, dans l'ordre de production de chaque ligne
+        int[] cursor = Arrays.copyOf(offsets, n);
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        boolean[] copies = undirected && m > 0 ? new boolean[m] : null;
+        edges.forEach((u, v, w) -> {
+            int slot = cursor[u]++;
+            targets[slot] = v;
+            weights[slot] = w;
+            if (undirected && u != v) {
+                slot = cursor[v]++;
+                targets[slot] = u;
+                weights[slot] = w;
+                copies[slot] = true;
+            }
+        });
+        for (int u = 0; u < n; u++) {
+            if (cursor[u] != offsets[u + 1]) {
+                throw new IllegalStateException("La source d'arêtes n'a pas produit deux fois les mêmes arêtes");
+            }
+        }
+
+        Originals originals = new Originals(undirected);
+        CsrGraph graph = new CsrGraph(null, null, firstName, offsets, targets, weights, xs, ys, originals, copies, null);
+        originals.graph = graph;
+        return graph;
+    }
+
+    /** Première passe de {@link #build} : degrés sortants, tableau agrandi à la demande si n est inconnu. */
+    private static final class DegreeCounter implements EdgeSink {
+        private final boolean fixed;
+        private final boolean undirected;
+        private int[] degrees;
+        private int nodeCount;
+
+        DegreeCounter(int nodeCount, boolean undirected) {
+            this.fixed = nodeCount >= 0;
+            this.undirected = undirected;
+            this.nodeCount = Math.max(0, nodeCount);
+            this.degrees = new int[fixed ? nodeCount : 1024];
+        }
+
+        @Override
+        public void accept(int u, int v, double weight) {
+            if (u < 0 || v < 0 || (fixed && (u >= nodeCount || v >= nodeCount))) {
+                throw new IllegalArgumentException("Arête hors du graphe : " + u + " -> " + v);
+            }
+            if (!fixed) {
+                int needed = Math.max(u, v) + 1;
+                if (needed > nodeCount) {
+                    if (needed > degrees.length) {
+                        degrees = Arrays.copyOf(degrees, (int) Math.min(Integer.MAX_VALUE - 8,
+                                Math.max((long) needed, 2L * degrees.length)));
+                    }
+                    nodeCount = needed;
+                }
+            }
+            degrees[u]++;
+            if (undirected && u != v) {
+                degrees[v]++;
+            }
+        }
+    }
+
+    public int nodeCount() {
+        return offsets.length - 1;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * @return L'identifiant dense du nœud, ou -1 s'il n'existe pas.
+     */
+    public int idOf(String name) {
+        if (ids == null) {
+            return parseId(name);
+        }
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    // Noms implicites : seule l'écriture décimale canonique ("0", "17", pas "017" ni "+17") est reconnue
+    private int parseId(String name) {
+        int length = name.length();
+        if (length == 0 || length > 10 || (length > 1 && name.charAt(0) == '0')) {
+            return -1;
+        }
+        long id = 0;
+        for (int i = 0; i < length; i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            id = id * 10 + (c - '0');
+        }
+        id -= firstName;
+        return id >= 0 && id < nodeCount() ? (int) id : -1;
+    }
+
+    /**
+     * Traduit une liste de noms en identifiants denses, dans le même ordre.
+     *
+     * @throws IllegalArgumentException si un nom ne correspond à aucun nœud.
+     */
+    public int[] idsOf(Collection<String> names) {
+        int[] result = new int[names.size()];
+        int i = 0;
+        for (String name : names) {
+            result[i++] = requireId(name);
+        }
+        return result;
+    }
+
+    /**
+     * @return L'identifiant dense du nœud.
+     * @throws IllegalArgumentException si le nom ne correspond à aucun nœud.
+     */
+    public int requireId(String name) {
+        int id = idOf(name);
+        if (id < 0) {
+            throw new IllegalArgumentException("Nœud introuvable : " + name);
+        }
+        return id;
+    }
+
+    public String nameOf(int id) {
+        if (names == null) {
+            Objects.checkIndex(id, nodeCount());
+            return Long.toString((long) firstName + id);
+        }
+        return names[id];
+    }
+
+    /** Abscisse (ou longitude) du nœud. */
+    public double x(int id) {
+        return xs[id];
+    }
+
+    /** Ordonnée (ou latitude) du nœud. */
+    public double y(int id) {
+        return ys[id];
+    }
+
+    /** Indice de la première arête sortante de u. */
+    public int firstEdge(int u) {
+        return offsets[u];
+    }
+
+    /** Indice qui suit la dernière arête sortante de u. */
+    public int endEdge(int u) {
+        return offsets[u + 1];
+    }
+
+    public int degree(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    public int target(int e) {
+        return targets[e];
+    }
+
+    public double weight(int e) {
+        return weights[e];
+    }
+
+    /**
+     * @return true si e est la seconde occurrence d'une arête non dirigée
+     * (celle rangée dans la ligne de sa cible). En ignorant ces copies, on
+     * traite chaque arête du graphe une seule fois.
+     */
+    public boolean isReverseCopy(int e) {
+        return reverseCopies != null && reverseCopies[e];
+    }
+
+    /**
+     * Le nœud d'origine correspondant à l'identifiant dense. Pour un graphe
+     * généré ou chargé directement en CSR, tous les objets Node et Edge sont
+     * créés au premier appel (voir {@link Originals}).
+     */
+    public Node node(int id) {
+        return originals.nodes()[id];
+    }
+
+    /** L'arête d'origine correspondant à l'indice CSR. */
+    public Edge edge(int e) {
+        return originals.edges()[originalEdge(e)];
+    }
+
+    /**
+     * Indice de l'arête e dans le graphe direct : e lui-même pour un graphe
+     * construit par {@link #from(Graph)}, l'arête u -> v d'origine pour une
+     * arête v -> u du transposé.
+     */
+    public int originalEdge(int e) {
+        return origins == null ? e : origins[e];
+    }
+
+    /**
+     * Retourne une vue de même structure (nœuds, arêtes, identifiants) dont
+     * les poids sont remplacés par newWeights, indexés comme les arêtes CSR.
+     * Les tableaux de structure sont partagés, pas copiés.
+     */
+    public CsrGraph withWeights(double[] newWeights) {
+        if (newWeights.length != targets.length) {
+            throw new IllegalArgumentException("Il faut un poids par arête : " + newWeights.length
+                    + " au lieu de " + targets.length);
+        }
+        return new CsrGraph(names, ids, firstName, offsets, targets, newWeights.clone(), xs, ys, originals, reverseCopies, origins);
+    }
+
+    /**
+     * Comme {@link #withWeights}, mais chaque arête devient dirigée : aucune
+     * n'est plus marquée comme copie inverse, pour que les deux sens d'une
+     * arête non dirigée puissent porter des poids différents. Les objets Edge
+     * restent ceux du graphe d'origine (poids d'origine, non dirigés).
+     */
+    CsrGraph directedWithWeights(double[] newWeights) {
+        CsrGraph view = withWeights(newWeights);
+        return reverseCopies == null ? view : new CsrGraph(names, ids, firstName, offsets, targets, view.weights,
+                xs, ys, originals, null, origins);
+    }
+
+    /**
+     * Retourne le graphe transposé : chaque arête u -> v y devient v -> u,
+     * avec le même poids et le même objet Edge d'origine. Les identifiants
+     * des nœuds sont les mêmes que dans ce graphe.
+     */
+    public CsrGraph reverse() {
+        CsrGraph r = reverse;
+        if (r == null) {
+            synchronized (this) {
+                r = reverse;
+                if (r == null) {
+                    r = buildReverse();
+                    r.reverse = this;
+                    reverse = r;
+                }
+            }
+        }
+        return r;
+    }
+
+    private CsrGraph buildReverse() {
+        int n = nodeCount();
+        int m = edgeCount();
+
+        // 1. Compter les arêtes entrantes de chaque nœud
+        int[] rOffsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            rOffsets[targets[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            rOffsets[v + 1] += rOffsets[v];
+        }
+
+        // 2. Remplir (l'ordre des sources croissantes est conservé dans chaque ligne)
+        int[] cursor = Arrays.copyOf(rOffsets, n);
+        int[] rTargets = new int[m];
+        double[] rWeights = new double[m];
+        int[] rOrigins = new int[m];
+        boolean[] rCopies = reverseCopies == null ? null : new boolean[m];
+        for (int u = 0; u < n; u++) {
+            for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int slot = cursor[targets[e]]++;
+                rTargets[slot] = u;
+                rWeights[slot] = weights[e];
+                rOrigins[slot] = e;
+                if (rCopies != null) {
+                    rCopies[slot] = reverseCopies[e];
+                }
+            }
+        }
+
+        return new CsrGraph(names, ids, firstName, rOffsets, rTargets, rWeights, xs, ys, originals, rCopies, rOrigins);
+    }
+
+    /**
+     * Objets Node / Edge d'une structure CSR, indexés comme le graphe direct
+     * et partagés par ses vues ({@link #withWeights}, {@link #reverse()}).
+     *
+     * Pour un graphe construit sans objets ({@link #build}), ils sont créés
+     * tous à la fois à la première demande, avec les poids d'origine : un
+     * objet Node par nœud, un Edge par arête, partagé entre une arête non
+     * dirigée et sa copie inverse. Cela coûte autant que le Graph équivalent ;
+     * sur les très grands graphes, on s'en tient aux identifiants denses.
+     */
+    private static final class Originals {
+        private final boolean undirected;
+        private CsrGraph graph; // graphe direct, null si les objets sont fournis
+        private volatile Node[] nodes;
+        private volatile Edge[] edges;
+
+        Originals(boolean undirected) {
+            this.undirected = undirected;
+        }
+
+        Node[] nodes() {
+            if (nodes == null) {
+                materialize();
+            }
+            return nodes;
+        }
+
+        Edge[] edges() {
+            if (edges == null) {
+                materialize();
+            }
+            return edges;
+        }
+
+        private synchronized void materialize() {
+            if (edges != null) {
+                return;
+            }
+            int n = graph.nodeCount();
+            Node[] newNodes = new Node[n];
+            for (int u = 0; u < n; u++) {
+                newNodes[u] = new Node(graph.nameOf(u), graph.xs[u], graph.ys[u]);
+            }
+
+            // 1. Arêtes directes ; les arêtes non dirigées attendent leur copie, par couple (u, v)
+            Edge[] newEdges = new Edge[graph.edgeCount()];
+            Map<Long, ArrayDeque<Edge>> pending = new HashMap<>();
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                    if (graph.isReverseCopy(e)) {
+                        continue;
+                    }
+                    int v = graph.targets[e];
+                    Edge edge = new Edge(newNodes[u], newNodes[v], graph.weights[e], !undirected);
+                    newEdges[e] = edge;
+                    newNodes[u].addEdge(edge);
+                    if (undirected && u != v) {
+                        pending.computeIfAbsent(((long) u << 32) | v, k -> new ArrayDeque<>()).add(edge);
+                    }
+                }
+            }
+
+            // 2. Copies inverses : la k-ième copie v -> u reprend la k-ième arête u -> v
+            for (int v = 0; v < n; v++) {
+                for (int e = graph.firstEdge(v); e < graph.endEdge(v); e++) {
+                    if (graph.isReverseCopy(e)) {
+                        Edge edge = pending.get(((long) graph.targets[e] << 32) | v).poll();
+                        newEdges[e] = edge;
+                        newNodes[v].addEdge(edge);
+                    }
+                }
+            }
+
+            nodes = newNodes;
+            edges = newEdges;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CsrGraph(" + nodeCount() + " nœuds, " + edgeCount() + " arêtes)";
+    }
+}
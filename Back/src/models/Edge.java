@@ -3,12 +3,22 @@ package models;
 public class Edge {
     private final Node source;
     private final Node target;
-    private final double weight; // utile pour les algos pondérés
+    private double weight; // utile pour les algos pondérés ; modifiable via Graph.updateWeight
+    private final boolean directed;
 
     public Edge(Node source, Node target, double weight) {
+        this(source, target, weight, true);
+    }
+
+    /**
+     * @param directed false pour une arête non dirigée : elle est alors rangée
+     *                 dans la liste d'arêtes de ses deux extrémités.
+     */
+    public Edge(Node source, Node target, double weight, boolean directed) {
         this.source = source;
         this.target = target;
         this.weight = weight;
+        this.directed = directed;
     }
 
     public Node getSource() {
@@ -23,8 +33,26 @@ public class Edge {
         return weight;
     }
 
+    /** Réservé à {@link Graph#updateWeight(Edge, double)}, qui journalise le changement. */
+    void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public boolean isDirected() {
+        return directed;
+    }
+
+    /**
+     * Retourne l'autre extrémité de l'arête vue depuis from. Pour parcourir
+     * la liste d'arêtes d'un nœud, c'est le voisin, que l'arête soit
+     * dirigée (from est alors la source) ou non.
+     */
+    public Node getOpposite(Node from) {
+        return from == source ? target : source;
+    }
+
     @Override
     public String toString() {
-        return source + " -> " + target + " (" + weight + ")";
+        return source + (directed ? " -> " : " -- ") + target + " (" + weight + ")";
     }
 }
\ No newline at end of file
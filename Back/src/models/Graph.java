@@ -5,12 +5,22 @@ import java.util.*;
 public class Graph {
     private final Map<String, Node> nodes;
 
+    // Journal des changements de poids : changes.get(i) est le changement numéro firstChange + i
+    private final List<WeightChange> changes;
+    private long firstChange;
+
+    // Vue CSR rendue par freeze(), oubliée à chaque modification faite par le graphe
+    private CsrGraph frozen;
+
     public Graph() {
         this.nodes = new HashMap<>();
+        this.changes = new ArrayList<>();
     }
 
     public void addNode(String id, double x, double y) {
-        nodes.putIfAbsent(id, new Node(id));
+        if (nodes.putIfAbsent(id, new Node(id, x, y)) == null) {
+            frozen = null;
+        }
     }
 
     public void addEdge(String sourceId, String targetId, double weight) {
@@ -20,6 +30,80 @@ public class Graph {
 
         Edge edge = new Edge(source, target, weight);
         source.addEdge(edge);
+        frozen = null;
+    }
+
+    /**
+     * Ajoute une arête non dirigée entre deux nœuds : un seul objet Edge,
+     * rangé dans la liste d'arêtes des deux extrémités. Une route A - B
+     * n'est ainsi stockée (et traitée par Kruskal) qu'une fois.
+     */
+    public void addUndirectedEdge(String firstId, String secondId, double weight) {
+        Node first = nodes.get(firstId);
+        Node second = nodes.get(secondId);
+        if (first == null || second == null) return;
+
+        Edge edge = new Edge(first, second, weight, false);
+        first.addEdge(edge);
+        if (second != first) {
+            second.addEdge(edge);
+        }
+        frozen = null;
+    }
+
+    /**
+     * Change le poids d'une arête du graphe et l'inscrit au journal, pour que
+     * les structures incrémentales (voir algorithms.DynamicShortestPaths)
+     * puissent se mettre à jour sans tout recalculer.
+     *
+     * @throws IllegalArgumentException si l'arête n'appartient pas au graphe
+     *                                  ou si le poids est NaN.
+     */
+    public void updateWeight(Edge edge, double weight) {
+        Node source = edge.getSource();
+        if (nodes.get(source.getId()) != source || !source.getEdges().contains(edge)) {
+            throw new IllegalArgumentException("Arête absente du graphe : " + edge);
+        }
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Poids invalide : " + weight);
+        }
+        double old = edge.getWeight();
+        if (Double.compare(old, weight) == 0) {
+            return;
+        }
+        edge.setWeight(weight);
+        changes.add(new WeightChange(edge, old, weight));
+        frozen = null;
+    }
+
+    /**
+     * Numéro de version du graphe : le nombre de changements de poids
+     * enregistrés depuis sa création.
+     */
+    public long version() {
+        return firstChange + changes.size();
+    }
+
+    /**
+     * @param version Une valeur renvoyée plus tôt par {@link #version()}.
+     * @return Les changements de poids survenus depuis cette version, du plus ancien au plus récent.
+     * @throws IllegalArgumentException si ces changements ont été effacés par trimChanges.
+     */
+    public List<WeightChange> changesSince(long version) {
+        if (version < firstChange || version > version()) {
+            throw new IllegalArgumentException("Version hors du journal : " + version);
+        }
+        return Collections.unmodifiableList(new ArrayList<>(changes.subList((int) (version - firstChange), changes.size())));
+    }
+
+    /**
+     * Efface du journal les changements antérieurs à version, une fois que
+     * tous les lecteurs les ont consommés.
+     */
+    public void trimChanges(long version) {
+        int count = (int) Math.min(Math.max(version - firstChange, 0), changes.size());
+        changes.subList(0, count).clear();
+        firstChange += count;
     }
 
     public Node getNode(String id) {
@@ -30,16 +114,46 @@ public class Graph {
         return nodes.values();
     }
 
+    /**
+     * @return Toutes les arêtes ; une arête non dirigée n'y figure qu'une fois
+     * (à la place qu'elle occupe dans la liste de sa source).
+     */
     public List<Edge> getAllEdges() {
         List<Edge> edges = new ArrayList<>();
         for (Node n : nodes.values()) {
-            edges.addAll(n.getEdges());
+            for (Edge edge : n.getEdges()) {
+                if (edge.getSource() == n) {
+                    edges.add(edge);
+                }
+            }
         }
         return edges;
     }
 
+    /**
+     * Fige le graphe dans une vue CSR immuable, plus compacte et plus rapide
+     * à parcourir (voir {@link CsrGraph}).
+     *
+     * La vue est construite au premier appel puis rendue telle quelle tant que
+     * le graphe n'est pas modifié par addNode, addEdge, addUndirectedEdge,
+     * updateWeight ou clear : les requêtes successives sur un même graphe ne
+     * paient plus la conversion en O(V + E). Une modification faite
+     * directement sur un Node (node.addEdge) n'est pas détectée.
+     */
+    public CsrGraph freeze() {
+        CsrGraph view = frozen;
+        if (view == null) {
+            view = CsrGraph.from(this);
+            frozen = view;
+        }
+        return view;
+    }
+
     public void clear() {
         nodes.clear();
+        frozen = null;
+        firstChange = version();
+        changes.clear();
     }
 
     @Override
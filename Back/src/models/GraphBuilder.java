@@ -5,87 +5,48 @@ public class GraphBuilder {
     /*
      * Crée le graphe du réseau routier en se basant sur le PDF du projet.
      *
-     * Cette version ajoute les arêtes dans les deux sens (A->B et B->A)
-     * pour simuler un graphe non-dirigé, ce qui est nécessaire pour
-     * la plupart des algorithmes (Prim, Kruskal, Dijkstra).
+     * Les routes sont des arêtes non dirigées : chacune est stockée une
+     * seule fois et rangée dans la liste d'arêtes de ses deux villes, ce qui
+     * permet de la parcourir dans les deux sens (Prim, Dijkstra, BFS...)
+     * sans que Kruskal ait à traiter chaque route en double.
      */
     public static Graph createRoadNetwork() {
         Graph graph = new Graph();
 
         // 1. Ajouter tous les nœuds (villes)
-        // On passe 0,0 pour x,y car ils ne sont pas utilisés dans la classe Node
-        graph.addNode("Rennes", 0, 0);
-        graph.addNode("Caen", 0, 0);
-        graph.addNode("Lille", 0, 0);
-        graph.addNode("Paris", 0, 0);
-        graph.addNode("Nantes", 0, 0);
-        graph.addNode("Bordeaux", 0, 0);
-        graph.addNode("Dijon", 0, 0);
-        graph.addNode("Nancy", 0, 0);
-        graph.addNode("Lyon", 0, 0);
-        graph.addNode("Grenoble", 0, 0);
-
-        // 2. Ajouter toutes les arêtes (routes) avec les poids dans les deux sens
-
-        graph.addEdge("Rennes", "Caen", 75);
-        graph.addEdge("Caen", "Rennes", 75); // Inverse
-
-        graph.addEdge("Rennes", "Paris", 110);
-        graph.addEdge("Paris", "Rennes", 110); // Inverse
-
-        graph.addEdge("Rennes", "Nantes", 45);
-        graph.addEdge("Nantes", "Rennes", 45); // Inverse
-
-        graph.addEdge("Rennes", "Bordeaux", 130);
-        graph.addEdge("Bordeaux", "Rennes", 130); // Inverse
-
-        graph.addEdge("Caen", "Paris", 50);
-        graph.addEdge("Paris", "Caen", 50); // Inverse
-
-        graph.addEdge("Caen", "Lille", 65);
-        graph.addEdge("Lille", "Caen", 65); // Inverse
-
-        graph.addEdge("Lille", "Paris", 70);
-        graph.addEdge("Paris", "Lille", 70); // Inverse
-
-        graph.addEdge("Lille", "Nancy", 100);
-        graph.addEdge("Nancy", "Lille", 100); // Inverse
-
-        graph.addEdge("Lille", "Dijon", 120);
-        graph.addEdge("Dijon", "Lille", 120); // Inverse
-
-        graph.addEdge("Paris", "Nantes", 80);
-        graph.addEdge("Nantes", "Paris", 80); // Inverse
-
-        graph.addEdge("Paris", "Bordeaux", 150);
-        graph.addEdge("Bordeaux", "Paris", 150); // Inverse
-
-        graph.addEdge("Paris", "Dijon", 60);
-        graph.addEdge("Dijon", "Paris", 60); // Inverse
-
-        graph.addEdge("Nantes", "Bordeaux", 90);
-        graph.addEdge("Bordeaux", "Nantes", 90); // Inverse
-
-        graph.addEdge("Bordeaux", "Lyon", 100);
-        graph.addEdge("Lyon", "Bordeaux", 100); // Inverse
-
-        graph.addEdge("Dijon", "Nancy", 75);
-        graph.addEdge("Nancy", "Dijon", 75); // Inverse
-
-        graph.addEdge("Dijon", "Lyon", 70);
-        graph.addEdge("Lyon", "Dijon", 70); // Inverse
-
-        graph.addEdge("Dijon", "Grenoble", 75);
-        graph.addEdge("Grenoble", "Dijon", 75); // Inverse
-
-        graph.addEdge("Nancy", "Lyon", 90);
-        graph.addEdge("Lyon", "Nancy", 90); // Inverse
-
-        graph.addEdge("Nancy", "Grenoble", 80);
-        graph.addEdge("Grenoble", "Nancy", 80); // Inverse
-
-        graph.addEdge("Lyon", "Grenoble", 40);
-        graph.addEdge("Grenoble", "Lyon", 40); // Inverse
+        // Les coordonnées x,y sont celles de la carte affichée par l'interface
+        graph.addNode("Rennes", 150, 200);
+        graph.addNode("Caen", 300, 120);
+        graph.addNode("Lille", 550, 100);
+        graph.addNode("Paris", 400, 250);
+        graph.addNode("Nantes", 250, 300);
+        graph.addNode("Bordeaux", 250, 500);
+        graph.addNode("Dijon", 520, 400);
+        graph.addNode("Nancy", 650, 300);
+        graph.addNode("Lyon", 550, 550);
+        graph.addNode("Grenoble", 620, 600);
+
+        // 2. Ajouter toutes les arêtes (routes) avec leurs poids
+        graph.addUndirectedEdge("Rennes", "Caen", 75);
+        graph.addUndirectedEdge("Rennes", "Paris", 110);
+        graph.addUndirectedEdge("Rennes", "Nantes", 45);
+        graph.addUndirectedEdge("Rennes", "Bordeaux", 130);
+        graph.addUndirectedEdge("Caen", "Paris", 50);
+        graph.addUndirectedEdge("Caen", "Lille", 65);
+        graph.addUndirectedEdge("Lille", "Paris", 70);
+        graph.addUndirectedEdge("Lille", "Nancy", 100);
+        graph.addUndirectedEdge("Lille", "Dijon", 120);
+        graph.addUndirectedEdge("Paris", "Nantes", 80);
+        graph.addUndirectedEdge("Paris", "Bordeaux", 150);
+        graph.addUndirectedEdge("Paris", "Dijon", 60);
+        graph.addUndirectedEdge("Nantes", "Bordeaux", 90);
+        graph.addUndirectedEdge("Bordeaux", "Lyon", 100);
+        graph.addUndirectedEdge("Dijon", "Nancy", 75);
+        graph.addUndirectedEdge("Dijon", "Lyon", 70);
+        graph.addUndirectedEdge("Dijon", "Grenoble", 75);
+        graph.addUndirectedEdge("Nancy", "Lyon", 90);
+        graph.addUndirectedEdge("Nancy", "Grenoble", 80);
+        graph.addUndirectedEdge("Lyon", "Grenoble", 40);
 
         return graph;
     }
@@ -0,0 +1,291 @@
+package models;
+
+import java.util.Arrays;
+
+/**
+ * Générateurs de grands graphes synthétiques, construits directement au
+ * format CSR (sans objets Node / Edge ni table de noms : le nœud i s'appelle
+ * "i").
+ *
+ * Chaque graphe est entièrement déterminé par ses paramètres et sa graine.
+ * Les tirages aléatoires ne viennent pas d'un générateur séquentiel mais d'un
+ * hachage (graine, numéro de tirage) : les arêtes peuvent ainsi être
+ * produites deux fois à l'identique (comptage des degrés puis remplissage,
+ * voir {@link CsrGraph#build}) sans jamais stocker de liste d'arêtes. La
+ * mémoire se limite aux tableaux CSR, ce qui permet de générer des dizaines
+ * de millions d'arêtes.
+ *
+ * Les graphes sont non dirigés (chaque arête est rangée chez ses deux
+ * extrémités), sauf {@link #erdosRenyi} en mode dirigé.
+ */
+public final class GraphGenerators {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    // Flux de tirages indépendants pour une même graine
+    private static final long COORDINATES = 1;
+    private static final long WEIGHTS = 2;
+    private static final long KEPT = 3;
+    private static final long ENDPOINTS = 4;
+    private static final long POTENTIALS = 5;
+
+    private GraphGenerators() {
+    }
+
+    /**
+     * Grille de rows x cols nœuds reliés à leurs voisins de droite et du
+     * dessous. Le nœud (ligne r, colonne c) a l'identifiant r * cols + c et
+     * les coordonnées (c, r) ; poids entiers de 1 à 10.
+     */
+    public static CsrGraph grid(int rows, int cols, long seed) {
+        int n = nodeCount(rows, cols);
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i % cols;
+            ys[i] = i / cols;
+        }
+        return CsrGraph.build(n, xs, ys, true, sink -> {
+            for (int i = 0; i < n; i++) {
+                int c = i % cols;
+                if (c + 1 < cols) {
+                    sink.accept(i, i + 1, 1 + below(random(seed, WEIGHTS, 2L * i), 10));
+                }
+                if (i + cols < n) {
+                    sink.accept(i, i + cols, 1 + below(random(seed, WEIGHTS, 2L * i + 1), 10));
+                }
+            }
+        });
+    }
+
+    /**
+     * Réseau de type routier : grille de rows x cols nœuds aux coordonnées
+     * perturbées, dont 10 % des tronçons manquent, avec une « voie rapide »
+     * (jamais interrompue, trois fois plus rapide) toutes les 16 lignes et
+     * colonnes. Poids = longueur euclidienne divisée par la vitesse.
+     */
+    public static CsrGraph roadNetwork(int rows, int cols, long seed) {
+        int n = nodeCount(rows, cols);
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = i % cols + (uniform(random(seed, COORDINATES, 2L * i)) - 0.5) * 0.6;
+            ys[i] = i / cols + (uniform(random(seed, COORDINATES, 2L * i + 1)) - 0.5) * 0.6;
+        }
+        return CsrGraph.build(n, xs, ys, true, sink -> {
+            for (int i = 0; i < n; i++) {
+                int r = i / cols;
+                int c = i % cols;
+                if (c + 1 < cols && (r % 16 == 0 || uniform(random(seed, KEPT, 2L * i)) >= 0.1)) {
+                    double speed = r % 16 == 0 ? 3.0 : 1.0;
+                    sink.accept(i, i + 1, Math.hypot(xs[i] - xs[i + 1], ys[i] - ys[i + 1]) / speed);
+                }
+                if (r + 1 < rows && (c % 16 == 0 || uniform(random(seed, KEPT, 2L * i + 1)) >= 0.1)) {
+                    double speed = c % 16 == 0 ? 3.0 : 1.0;
+                    sink.accept(i, i + cols, Math.hypot(xs[i] - xs[i + cols], ys[i] - ys[i + cols]) / speed);
+                }
+            }
+        });
+    }
+
+    /**
+     * Graphe aléatoire d'Erdős-Rényi G(n, m) : m arêtes dont les deux
+     * extrémités (distinctes) sont tirées uniformément. Les arêtes multiples
+     * sont possibles ; poids entiers de 1 à 100. Pas de coordonnées.
+     *
+     * @param directed true : arêtes dirigées, sinon non dirigées.
+     */
+    public static CsrGraph erdosRenyi(int n, long m, boolean directed, long seed) {
+        if (n < 0 || m < 0) {
+            throw new IllegalArgumentException("Taille négative : " + n + " nœuds, " + m + " arêtes");
+        }
+        if (m > 0 && n < 2) {
+            throw new IllegalArgumentException("Il faut au moins deux nœuds pour tirer des arêtes");
+        }
+        return CsrGraph.build(n, null, null, !directed, sink -> {
+            for (long k = 0; k < m; k++) {
+                int u = below(random(seed, ENDPOINTS, 2 * k), n);
+                int v = (u + 1 + below(random(seed, ENDPOINTS, 2 * k + 1), n - 1)) % n;
+                sink.accept(u, v, 1 + below(random(seed, WEIGHTS, k), 100));
+            }
+        });
+    }
+
+    /**
+     * Graphe sans échelle de Barabási-Albert : chaque nœud i >= 1 se relie à
+     * edgesPerNode nœuds antérieurs choisis proportionnellement à leur degré
+     * (arêtes multiples possibles). (n - 1) * edgesPerNode arêtes, poids
+     * entiers de 1 à 100, pas de coordonnées.
+     *
+     * Un tirage proportionnel au degré revient à choisir uniformément une
+     * extrémité d'arête déjà créée. Plutôt que de stocker ces extrémités, on
+     * remonte la chaîne des tirages : l'extrémité cible de l'arête k est elle
+     * même un tirage, que le hachage permet de refaire. La chaîne raccourcit
+     * de moitié en moyenne à chaque pas, d'où un coût logarithmique par arête.
+     */
+    public static CsrGraph barabasiAlbert(int n, int edgesPerNode, long seed) {
+        if (n < 0 || edgesPerNode < 1) {
+            throw new IllegalArgumentException("Paramètres invalides : " + n + " nœuds, "
+                    + edgesPerNode + " arêtes par nœud");
+        }
+        long m = n == 0 ? 0 : (long) (n - 1) * edgesPerNode;
+        return CsrGraph.build(n, null, null, true, sink -> {
+            for (long k = 0; k < m; k++) {
+                int u = (int) (1 + k / edgesPerNode);
+                sink.accept(u, attachment(k, edgesPerNode, seed), 1 + below(random(seed, WEIGHTS, k), 100));
+            }
+        });
+    }
+
+    /**
+     * Cible de l'arête k. Les extrémités des arêtes forment une suite
+     * virtuelle : la case 2k est la source de l'arête k, la case 2k + 1 sa
+     * cible. L'arête k tire une case parmi celles des nœuds antérieurs à sa
+     * source, ce qui exclut les boucles.
+     */
+    private static int attachment(long k, int edgesPerNode, long seed) {
+        long edge = k;
+        while (true) {
+            long source = 1 + edge / edgesPerNode;
+            long earlier = 2 * (source - 1) * edgesPerNode; // cases des nœuds 0..source-1
+            if (earlier == 0) {
+                return 0; // Le nœud 1 ne peut se relier qu'au nœud 0
+            }
+            long slot = (long) (uniform(random(seed, ENDPOINTS, edge)) * earlier);
+            if ((slot & 1) == 0) {
+                return (int) (1 + (slot >>> 1) / edgesPerNode);
+            }
+            edge = slot >>> 1;
+        }
+    }
+
+    /**
+     * Graphe géométrique aléatoire : n points uniformes dans le carré
+     * [0, 1000)², reliés quand leur distance est sous le rayon qui donne en
+     * moyenne averageDegree voisins. Poids = distance euclidienne.
+     *
+     * Les points sont numérotés cellule par cellule (cellules de côté au
+     * moins égal au rayon) : des nœuds voisins dans le plan ont des
+     * identifiants proches, ce qui rend les parcours plus locaux en mémoire.
+     */
+    public static CsrGraph randomGeometric(int n, double averageDegree, long seed) {
+        if (n < 0 || !(averageDegree > 0)) {
+            throw new IllegalArgumentException("Paramètres invalides : " + n + " nœuds, degré moyen " + averageDegree);
+        }
+        double extent = 1000.0;
+        double radius = n == 0 ? extent : Math.min(extent, extent * Math.sqrt(averageDegree / (Math.PI * n)));
+        int cells = (int) Math.max(1, Math.min(46_340, extent / radius));
+
+        // 1. Compter les points de chaque cellule, sans les stocker
+        int[] cellStart = new int[cells * cells + 1];
+        for (int i = 0; i < n; i++) {
+            double x = uniform(random(seed, COORDINATES, 2L * i)) * extent;
+            double y = uniform(random(seed, COORDINATES, 2L * i + 1)) * extent;
+            cellStart[cellOf(x, y, cells, extent) + 1]++;
+        }
+        for (int c = 0; c < cells * cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+
+        // 2. Ranger chaque point à la place que lui donne sa cellule
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        int[] cursor = Arrays.copyOf(cellStart, cells * cells);
+        for (int i = 0; i < n; i++) {
+            double x = uniform(random(seed, COORDINATES, 2L * i)) * extent;
+            double y = uniform(random(seed, COORDINATES, 2L * i + 1)) * extent;
+            int id = cursor[cellOf(x, y, cells, extent)]++;
+            xs[id] = x;
+            ys[id] = y;
+        }
+
+        double squaredRadius = radius * radius;
+        return CsrGraph.build(n, xs, ys, true, sink -> {
+            for (int i = 0; i < n; i++) {
+                int cx = cellIndex(xs[i], cells, extent);
+                int cy = cellIndex(ys[i], cells, extent);
+                for (int ny = Math.max(0, cy - 1); ny <= Math.min(cells - 1, cy + 1); ny++) {
+                    for (int nx = Math.max(0, cx - 1); nx <= Math.min(cells - 1, cx + 1); nx++) {
+                        int c = ny * cells + nx;
+                        for (int j = Math.max(i + 1, cellStart[c]); j < cellStart[c + 1]; j++) {
+                            double dx = xs[i] - xs[j];
+                            double dy = ys[i] - ys[j];
+                            if (dx * dx + dy * dy <= squaredRadius) {
+                                sink.accept(i, j, Math.sqrt(dx * dx + dy * dy));
+                            }
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static int cellOf(double x, double y, int cells, double extent) {
+        return cellIndex(y, cells, extent) * cells + cellIndex(x, cells, extent);
+    }
+
+    private static int cellIndex(double value, int cells, double extent) {
+        return Math.min(cells - 1, (int) (value / extent * cells));
+    }
+
+    /**
+     * Ajoute des poids négatifs à un graphe sans créer de cycle négatif :
+     * chaque nœud reçoit un potentiel p(v) tiré dans [0, spread) et l'arête
+     * u -> v prend le poids w + p(u) - p(v). Le poids d'un cycle est inchangé
+     * (les potentiels s'annulent) et les plus courts chemins restent les
+     * mêmes, à p(source) - p(cible) près : on peut comparer Bellman-Ford ou
+     * Johnson à Dijkstra sur le graphe d'origine.
+     *
+     * La proportion d'arêtes négatives croît avec spread rapporté aux poids
+     * (aucune si spread vaut 0, environ la moitié quand spread est grand
+     * devant eux). Les deux sens d'une arête non dirigée reçoivent des poids
+     * différents : le résultat est donc un graphe dirigé, où aucune arête
+     * n'est une copie inverse ({@link CsrGraph#isReverseCopy}) et que Kruskal
+     * ou Borůvka traitent comme tel. Les objets Edge gardent les poids d'origine.
+     *
+     * @param graph  Graphe aux poids positifs ou nuls.
+     * @param spread Amplitude des potentiels (positive ou nulle).
+     * @return Une vue dirigée de même structure (mêmes nœuds, mêmes indices d'arêtes).
+     */
+    public static CsrGraph withNegativeEdges(CsrGraph graph, double spread, long seed) {
+        if (!(spread >= 0) || Double.isInfinite(spread)) {
+            throw new IllegalArgumentException("Amplitude invalide : " + spread);
+        }
+        int n = graph.nodeCount();
+        double[] potentials = new double[n];
+        for (int v = 0; v < n; v++) {
+            potentials[v] = uniform(random(seed, POTENTIALS, v)) * spread;
+        }
+        double[] weights = new double[graph.edgeCount()];
+        for (int u = 0; u < n; u++) {
+            for (int e = graph.firstEdge(u); e < graph.endEdge(u); e++) {
+                weights[e] = graph.weight(e) + potentials[u] - potentials[graph.target(e)];
+            }
+        }
+        return graph.directedWithWeights(weights);
+    }
+
+    private static int nodeCount(int rows, int cols) {
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Dimensions invalides : " + rows + " x " + cols);
+        }
+        return rows * cols;
+    }
+
+    /** Tirage numéro index du flux stream : hachage SplitMix64, sans état. */
+    private static long random(long seed, long stream, long index) {
+        long z = seed + stream * 0xD1B54A32D192ED03L + index * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Réel uniforme dans [0, 1). */
+    private static double uniform(long random) {
+        return (random >>> 11) * 0x1.0p-53;
+    }
+
+    /** Entier uniforme dans [0, bound). */
+    private static int below(long random, int bound) {
+        return (int) (((random >>> 32) * bound) >>> 32);
+    }
+}
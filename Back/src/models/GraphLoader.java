@@ -0,0 +1,457 @@
+package models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Supplier;
+
+/**
+ * Chargement de graphes depuis des fichiers texte, directement au format CSR.
+ *
+ * Le fichier est lu deux fois à travers un FileChannel et un tampon d'octets :
+ * une passe compte le degré de chaque nœud, la suivante range les arêtes (voir
+ * {@link CsrGraph#build}). Les nombres sont décodés octet par octet, sans
+ * String intermédiaire ni objet Edge : la mémoire se limite aux tableaux CSR,
+ * quelle que soit la taille du fichier.
+ *
+ * Les nœuds sont désignés par des entiers positifs ou nuls ; le nom d'un
+ * nœud du graphe chargé est son numéro dans le fichier.
+ *
+ * Formats reconnus :
+ * - DIMACS (9e challenge, plus courts chemins) : fichier .gr avec une ligne
+ *   "p sp n m" puis des arcs "a u v w" (nœuds numérotés à partir de 1), et
+ *   fichier .co facultatif de lignes "v id x y" ; commentaires "c ...".
+ * - Liste d'arêtes : une arête "u v [poids]" par ligne, séparée par des
+ *   espaces ou des tabulations ; commentaires "#" ou "%".
+ * - CSV : "source,cible[,poids]" par ligne (séparateur ',' ou ';'), avec une
+ *   éventuelle ligne d'en-tête ; les colonnes suivantes sont ignorées.
+ * Sans poids, une arête pèse 1.
+ */
+public final class GraphLoader {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private GraphLoader() {
+    }
+
+    /**
+     * Charge un graphe DIMACS dirigé, sans coordonnées.
+     *
+     * @throws IllegalArgumentException si le fichier est mal formé.
+     */
+    public static CsrGraph loadDimacs(Path gr) throws IOException {
+        return loadDimacs(gr, null);
+    }
+
+    /**
+     * Charge un graphe DIMACS dirigé. Le nœud DIMACS k reçoit l'identifiant
+     * dense k - 1 et garde le nom "k".
+     *
+     * @param gr Fichier des arcs (.gr).
+     * @param co Fichier des coordonnées (.co), ou null.
+     * @throws IllegalArgumentException si un fichier est mal formé.
+     */
+    public static CsrGraph loadDimacs(Path gr, Path co) throws IOException {
+        int n = dimacsNodeCount(gr);
+        double[] xs = null;
+        double[] ys = null;
+        if (co != null) {
+            xs = new double[n];
+            ys = new double[n];
+            readCoordinates(co, xs, ys);
+        }
+        double[] finalXs = xs;
+        double[] finalYs = ys;
+        return load(() -> CsrGraph.build(n, 1, finalXs, finalYs, false, sink -> {
+            try (ByteReader in = new ByteReader(gr)) {
+                while (in.hasMore()) {
+                    if (in.peek() == 'a') {
+                        in.advance();
+                        int u = in.readNode(1, n);
+                        int v = in.readNode(1, n);
+                        sink.accept(u, v, in.readWeight());
+                    }
+                    in.nextLine();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /** Lit le nombre de nœuds sur la ligne "p sp n m", qui précède les arcs. */
+    private static int dimacsNodeCount(Path gr) throws IOException {
+        try (ByteReader in = new ByteReader(gr)) {
+            while (in.hasMore()) {
+                int c = in.peek();
+                if (c == 'p') {
+                    in.advance();
+                    in.expectWord("sp");
+                    return in.readCount();
+                }
+                if (c == 'a') {
+                    throw in.error("arc avant la ligne \"p sp n m\"");
+                }
+                in.nextLine();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        throw new IllegalArgumentException(gr + " : ligne \"p sp n m\" introuvable");
+    }
+
+    private static void readCoordinates(Path co, double[] xs, double[] ys) throws IOException {
+        try (ByteReader in = new ByteReader(co)) {
+            while (in.hasMore()) {
+                if (in.peek() == 'v') {
+                    in.advance();
+                    int v = in.readNode(1, xs.length);
+                    xs[v] = in.readDouble();
+                    ys[v] = in.readDouble();
+                }
+                in.nextLine();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Charge une liste d'arêtes "u v [poids]". Le nombre de nœuds est le
+     * plus grand numéro rencontré plus un ; le nœud k a l'identifiant k.
+     *
+     * @param directed false : chaque arête est aussi rangée chez sa cible.
+     * @throws IllegalArgumentException si le fichier est mal formé.
+     */
+    public static CsrGraph loadEdgeList(Path path, boolean directed) throws IOException {
+        return load(() -> CsrGraph.build(-1, 0, null, null, !directed, sink -> {
+            try (ByteReader in = new ByteReader(path)) {
+                while (in.hasMore()) {
+                    if (!in.atLineEnd() && in.peek() != '#' && in.peek() != '%') {
+                        readEdge(in, sink);
+                    }
+                    in.nextLine();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    /**
+     * Charge un fichier CSV "source,cible[,poids]". Une première ligne qui ne
+     * commence pas par un nombre est prise pour un en-tête et ignorée.
+     *
+     * @param directed false : chaque arête est aussi rangée chez sa cible.
+     * @throws IllegalArgumentException si le fichier est mal formé.
+     */
+    public static CsrGraph loadCsv(Path path, boolean directed) throws IOException {
+        return load(() -> CsrGraph.build(-1, 0, null, null, !directed, sink -> {
+            try (ByteReader in = new ByteReader(path)) {
+                in.separators = true;
+                if (in.hasMore() && !in.startsWithNumber()) {
+                    in.nextLine(); // En-tête
+                }
+                while (in.hasMore()) {
+                    if (!in.atLineEnd()) {
+                        readEdge(in, sink);
+                    }
+                    in.nextLine();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    private static void readEdge(ByteReader in, CsrGraph.EdgeSink sink) {
+        int u = in.readNode(0, Integer.MAX_VALUE - 8);
+        int v = in.readNode(0, Integer.MAX_VALUE - 8);
+        sink.accept(u, v, in.atLineEnd() ? 1.0 : in.readWeight());
+    }
+
+    // Les passes de lecture tournent dans des lambdas : on y fait remonter les IOException
+    private static CsrGraph load(Supplier<CsrGraph> loading) throws IOException {
+        try {
+            return loading.get();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Lecteur de lignes et de nombres sur un FileChannel, à travers un tampon
+     * d'octets réutilisé. Un nombre peut être coupé entre deux remplissages :
+     * on ne lit qu'un octet à la fois ({@link #peek()} / {@link #advance()}).
+     */
+    private static final class ByteReader implements AutoCloseable {
+        private static final double[] POWERS_OF_TEN = {
+                1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+                1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+        private final Path path;
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final byte[] bytes;
+        private int position;
+        private int limit;
+        private boolean eof;
+        private long line = 1;
+        boolean separators; // CSV : ',' et ';' séparent aussi les colonnes
+
+        // Nombre en cours de lecture : mantissa * 10^scale
+        private long mantissa;
+        private int significant; // chiffres significatifs gardés dans mantissa
+        private int scale;
+        private int digitCount;  // chiffres lus, zéros non significatifs compris
+
+        ByteReader(Path path) throws IOException {
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.bytes = buffer.array();
+        }
+
+        /** @return L'octet courant, ou -1 en fin de fichier. */
+        int peek() {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            return bytes[position] & 0xFF;
+        }
+
+        void advance() {
+            position++;
+        }
+
+        private boolean fill() {
+            if (eof) {
+                return false;
+            }
+            try {
+                buffer.clear();
+                int read;
+                do {
+                    read = channel.read(buffer);
+                } while (read == 0);
+                if (read < 0) {
+                    eof = true;
+                    return false;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            position = 0;
+            limit = buffer.position();
+            return true;
+        }
+
+        boolean hasMore() {
+            return peek() >= 0;
+        }
+
+        /** Passe à la ligne suivante (ou à la fin du fichier). */
+        void nextLine() {
+            while (position < limit || fill()) {
+                for (int i = position; i < limit; i++) {
+                    if (bytes[i] == '\n') {
+                        position = i + 1;
+                        line++;
+                        return;
+                    }
+                }
+                position = limit;
+            }
+        }
+
+        private void skipBlanks() {
+            do {
+                while (position < limit) {
+                    byte c = bytes[position];
+                    if (c != ' ' && c != '\t' && c != '\r' && !(separators && (c == ',' || c == ';'))) {
+                        return;
+                    }
+                    position++;
+                }
+            } while (fill());
+        }
+
+        /** @return true si la ligne ne contient plus que des blancs. */
+        boolean atLineEnd() {
+            skipBlanks();
+            int c = peek();
+            return c == '\n' || c < 0;
+        }
+
+        boolean startsWithNumber() {
+            skipBlanks();
+            int c = peek();
+            return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+        }
+
+        void expectWord(String word) {
+            skipBlanks();
+            for (int i = 0; i < word.length(); i++) {
+                if (peek() != word.charAt(i)) {
+                    throw error("\"" + word + "\" attendu");
+                }
+                advance();
+            }
+        }
+
+        /** Numéro de nœud dans [first, first + count), rendu en identifiant dense (à partir de 0). */
+        int readNode(int first, int count) {
+            long value = readLong();
+            if (value < first || value - first >= count) {
+                throw error("nœud hors limites : " + value);
+            }
+            return (int) (value - first);
+        }
+
+        int readCount() {
+            long value = readLong();
+            if (value < 0 || value > Integer.MAX_VALUE - 8) {
+                throw error("nombre de nœuds invalide : " + value);
+            }
+            return (int) value;
+        }
+
+        double readWeight() {
+            double weight = readDouble();
+            if (Double.isNaN(weight)) {
+                throw error("poids invalide");
+            }
+            return weight;
+        }
+
+        long readLong() {
+            skipBlanks();
+            boolean negative = readSign();
+            startNumber();
+            readDigits(false);
+            if (digitCount == 0) {
+                throw error("entier attendu");
+            }
+            if (scale != 0) {
+                throw error("entier trop grand");
+            }
+            return negative ? -mantissa : mantissa;
+        }
+
+        /**
+         * Décimal de la forme [-]chiffres[.chiffres][e[-]chiffres]. Jusqu'à 15
+         * chiffres significatifs et 10^22, le résultat est l'arrondi exact
+         * (une seule opération sur des doubles exacts) ; au-delà, on passe
+         * par BigDecimal.
+         */
+        double readDouble() {
+            skipBlanks();
+            boolean negative = readSign();
+            startNumber();
+            readDigits(false);
+            int c = peek();
+            if (c == '.') {
+                advance();
+                readDigits(true);
+                c = peek();
+            }
+            if (digitCount == 0) {
+                throw error("nombre attendu");
+            }
+            long mantissa = this.mantissa;
+            int digits = significant;
+            int exponent = scale;
+            if (c == 'e' || c == 'E') {
+                advance();
+                boolean negativeExponent = readSign();
+                if ((c = peek()) < '0' || c > '9') {
+                    throw error("exposant attendu");
+                }
+                int value = 0;
+                while ((c = peek()) >= '0' && c <= '9') {
+                    value = Math.min(100_000, value * 10 + (c - '0'));
+                    advance();
+                }
+                exponent += negativeExponent ? -value : value;
+            }
+
+            double result;
+            if (mantissa == 0) {
+                result = 0.0;
+            } else if (digits <= 15 && exponent >= -22 && exponent <= 22) {
+                result = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+            } else {
+                result = new BigDecimal(BigInteger.valueOf(mantissa), -exponent).doubleValue();
+            }
+            return negative ? -result : result;
+        }
+
+        private void startNumber() {
+            mantissa = 0;
+            significant = 0;
+            scale = 0;
+            digitCount = 0;
+        }
+
+        /**
+         * Ajoute une suite de chiffres au nombre en cours : mantissa * 10^scale,
+         * limité à 18 chiffres significatifs (les suivants ne changent que
+         * l'échelle, ou sont ignorés après la virgule). La boucle travaille
+         * directement sur le tampon, qui n'est rechargé qu'à son terme.
+         */
+        private void readDigits(boolean fraction) {
+            long m = mantissa;
+            int kept = significant;
+            int s = scale;
+            int count = 0;
+            do {
+                int i = position;
+                for (; i < limit; i++) {
+                    int d = bytes[i] - '0';
+                    if (d < 0 || d > 9) {
+                        break;
+                    }
+                    if (kept < 18) {
+                        m = m * 10 + d;
+                        if (m != 0) {
+                            kept++;
+                        }
+                        if (fraction) {
+                            s--;
+                        }
+                    } else if (!fraction) {
+                        s++;
+                    }
+                }
+                count += i - position;
+                position = i;
+            } while (position == limit && fill());
+            mantissa = m;
+            significant = kept;
+            scale = s;
+            digitCount += count;
+        }
+
+        private boolean readSign() {
+            int c = peek();
+            if (c == '-' || c == '+') {
+                advance();
+                return c == '-';
+            }
+            return false;
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(path + ", ligne " + line + " : " + message);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
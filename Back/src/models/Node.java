@@ -6,16 +6,33 @@ import java.util.List;
 public class Node {
     private final String id;
     private final List<Edge> edges;
+    // Coordonnées (x, y) ou (longitude, latitude), utilisées par l'affichage et par A*
+    private final double x;
+    private final double y;
 
     public Node(String id) {
+        this(id, 0, 0);
+    }
+
+    public Node(String id, double x, double y) {
         this.id = id;
         this.edges = new ArrayList<>();
+        this.x = x;
+        this.y = y;
     }
 
     public String getId() {
         return id;
     }
 
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
     public List<Edge> getEdges() {
         return edges;
     }
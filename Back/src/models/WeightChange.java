@@ -0,0 +1,34 @@
+package models;
+
+/**
+ * Entrée du journal des changements de poids d'un {@link Graph}.
+ */
+public final class WeightChange {
+    private final Edge edge;
+    private final double oldWeight;
+    private final double newWeight;
+
+    public WeightChange(Edge edge, double oldWeight, double newWeight) {
+        this.edge = edge;
+        this.oldWeight = oldWeight;
+        this.newWeight = newWeight;
+    }
+
+    public Edge getEdge() {
+        return edge;
+    }
+
+    public double getOldWeight() {
+        return oldWeight;
+    }
+
+    public double getNewWeight() {
+        return newWeight;
+    }
+
+    @Override
+    public String toString() {
+        return edge.getSource() + (edge.isDirected() ? " -> " : " -- ") + edge.getTarget()
+                + " : " + oldWeight + " => " + newWeight;
+    }
+}
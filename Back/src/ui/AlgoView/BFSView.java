@@ -1,6 +1,7 @@
 package ui.AlgoView;
 
 import algorithms.BFS; // Importe depuis le module Back
+import algorithms.TraversalResult;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -12,6 +13,7 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
+import models.CsrGraph; // Importe depuis Back
 import models.Edge;
 import models.Graph; // Importe depuis Back
 import models.GraphBuilder; // Importe depuis Back
@@ -20,7 +22,6 @@ import ui.AlgoMenu;
 import ui.GraphDisplay;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 public class BFSView {
@@ -70,9 +71,10 @@ public class BFSView {
             if (start != null) {
                 graphDisplay.resetDisplay();
                 // Appeler l'algorithme
-                Map<String, Object> result = BFS.bfs(roadNetwork, start);
+                CsrGraph graph = roadNetwork.freeze();
+                TraversalResult result = BFS.traversal(graph, graph.requireId(start), true);
                 // Récupérer l'ordre de visite
-                List<Node> visitOrder = (List<Node>) result.get("visitOrder");
+                List<Node> visitOrder = result.visitOrder();
                 // Lancer l'animation
                 graphDisplay.highlightNodesSequentially(visitOrder);
             }
@@ -84,9 +86,10 @@ public class BFSView {
             if (start != null) {
                 graphDisplay.resetDisplay();
                 // Appeler l'algorithme
-                Map<String, Object> result = BFS.bfs(roadNetwork, start);
+                CsrGraph graph = roadNetwork.freeze();
+                TraversalResult result = BFS.traversal(graph, graph.requireId(start), true);
                 // Récupérer les arêtes de l'arbre
-                List<Edge> treeEdges = (List<Edge>) result.get("treeEdges");
+                List<Edge> treeEdges = result.treeEdges();
                 // Afficher l'arbre (par ex: en bleu)
                 graphDisplay.highlightTree(treeEdges, Color.BLUEVIOLET);
             }
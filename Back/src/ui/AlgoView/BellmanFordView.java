@@ -1,6 +1,7 @@
 package ui.AlgoView;
 
 import algorithms.BellmanFord;
+import algorithms.SingleSourceResult;
 
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
@@ -79,24 +80,21 @@ public class BellmanFordView {
                 graphDisplay.resetDisplay();
 
                 // 2. Appeler algorithme
-                Map<String, Object> result = BellmanFord.findShortestPaths(roadNetwork, startId);
+                SingleSourceResult result = BellmanFord.singleSource(roadNetwork, startId);
 
                 // 3. Vérifier les résultats
-                boolean hasNegativeCycle = (boolean) result.get("negativeCycle");
-
-                if (hasNegativeCycle) {
-                    infoLabel.setText("ERREUR : Cycle de poids négatif détecté !");
+                if (result.hasNegativeCycle()) {
+                    List<Node> cycle = result.negativeCycle();
+                    graphDisplay.highlightPath(cycle);
+                    infoLabel.setText("ERREUR : Cycle de poids négatif détecté ("
+                            + cycle.stream().map(Node::getId).collect(Collectors.joining(" -> ")) + ")");
                     infoLabel.setTextFill(Color.RED);
                 } else {
-                    // Récupérer les maps de résultats
-                    Map<Node, Double> distances = (Map<Node, Double>) result.get("distances");
-                    Map<Node, Node> predecessors = (Map<Node, Node>) result.get("predecessors");
-
-                    Node endNode = roadNetwork.getNode(endId);
-                    double distance = distances.get(endNode);
+                    int end = result.graph().requireId(endId);
+                    double distance = result.distance(end);
 
                     // 4. Reconstruire le chemin
-                    List<Node> path = reconstructPath(predecessors, endNode);
+                    List<Node> path = result.path(end);
 
                     if (distance == Double.POSITIVE_INFINITY) {
                         infoLabel.setText("Aucun chemin trouvé.");
@@ -117,29 +115,6 @@ public class BellmanFordView {
         view.setCenter(graphDisplay);
     }
 
-    /**
-     * Méthode utilitaire pour reconstruire le chemin à partir de la map des prédécesseurs.
-     */
-    private List<Node> reconstructPath(Map<Node, Node> predecessors, Node endNode) {
-        List<Node> path = new ArrayList<>();
-        Node step = endNode;
-
-        // Tant que le nœud existe et qu'il a un prédécesseur (ou est le nœud de départ)
-        while (step != null) {
-            path.add(step);
-            step = predecessors.get(step);
-        }
-
-        Collections.reverse(path); // Mettre le chemin dans le bon ordre
-
-        // Si le premier nœud n'est pas le nœud de départ (pas de chemin), retourner vide
-        if (!path.isEmpty() && predecessors.containsKey(path.get(0))) {
-            return new ArrayList<>(); // Pas de chemin
-        }
-
-        return path;
-    }
-
     public BorderPane getView() {
         return view;
     }
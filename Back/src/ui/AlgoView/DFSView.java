@@ -1,6 +1,7 @@
 package ui.AlgoView;
 
 import algorithms.DFS; // Importe depuis le module Back
+import algorithms.TraversalResult;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -20,7 +21,6 @@ import ui.AlgoMenu;
 import ui.GraphDisplay;
 
 import java.util.List;
-import java.util.Map; // <-- Import
 import java.util.stream.Collectors;
 
 public class DFSView {
@@ -70,9 +70,9 @@ public class DFSView {
             if (start != null) {
                 graphDisplay.resetDisplay();
                 // Appeler l'algorithme DFS
-                Map<String, Object> result = DFS.dfs(roadNetwork, start);
+                TraversalResult result = DFS.traversal(roadNetwork, start);
                 // Récupérer l'ordre de visite
-                List<Node> visitOrder = (List<Node>) result.get("visitOrder");
+                List<Node> visitOrder = result.visitOrder();
                 // Lancer l'animation
                 graphDisplay.highlightNodesSequentially(visitOrder);
             }
@@ -84,9 +84,9 @@ public class DFSView {
             if (start != null) {
                 graphDisplay.resetDisplay();
                 // Appeler l'algorithme DFS
-                Map<String, Object> result = DFS.dfs(roadNetwork, start);
+                TraversalResult result = DFS.traversal(roadNetwork, start);
                 // Récupérer les arêtes de l'arbre
-                List<Edge> treeEdges = (List<Edge>) result.get("treeEdges");
+                List<Edge> treeEdges = result.treeEdges();
                 // Afficher l'arbre (par ex: en violet)
                 graphDisplay.highlightTree(treeEdges, Color.PURPLE);
             }
@@ -1,6 +1,7 @@
 package ui.AlgoView;
 
 import algorithms.Dijkstra; // Importe depuis le module Back
+import algorithms.ShortestPathResult;
 import javafx.collections.FXCollections;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -18,7 +19,6 @@ import ui.AlgoMenu;
 import ui.GraphDisplay;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 public class DijkstraView {
@@ -80,10 +80,10 @@ public class DijkstraView {
                 graphDisplay.resetDisplay();
 
                 // 2. Appeler l'algorithme du module Back
-                Map<String, Object> result = Dijkstra.dijkstra(roadNetwork, start, end);
+                ShortestPathResult result = Dijkstra.route(roadNetwork, start, end);
 
                 // 3. Récupérer le chemin
-                List<Node> path = (List<Node>) result.get("path");
+                List<Node> path = result.path();
 
                 // 4. Mettre à jour l'affichage avec le résultat
                 graphDisplay.highlightPath(path);
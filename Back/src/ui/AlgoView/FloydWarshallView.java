@@ -117,7 +117,14 @@ public class FloydWarshallView {
                     String destCity = cities.get(j);
 
                     double dist = matrix.get(sourceCity).get(destCity);
-                    String distStr = (dist == Double.POSITIVE_INFINITY) ? "Inf" : String.format("%.0f", dist);
+                    String distStr;
+                    if (dist == Double.POSITIVE_INFINITY) {
+                        distStr = "Inf";
+                    } else if (dist == Double.NEGATIVE_INFINITY) {
+                        distStr = "-Inf"; // Chemin passant par un cycle négatif
+                    } else {
+                        distStr = String.format("%.0f", dist);
+                    }
 
                     Label data = new Label(distStr);
                     matrixGrid.add(data, j + 1, i + 1);
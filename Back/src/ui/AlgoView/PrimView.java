@@ -1,6 +1,7 @@
 package ui.AlgoView;
 
 import algorithms.Prim;
+import algorithms.SpanningTreeResult;
 
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -19,7 +20,6 @@ import ui.AlgoMenu;
 import ui.GraphDisplay;
 
 import java.util.List;
-import java.util.Map;
 
 public class PrimView {
 
@@ -67,11 +67,11 @@ public class PrimView {
             Node firstNode = roadNetwork.getNodes().iterator().next();
             String startNodeId = firstNode.getId();
 
-            Map<String, Object> result = Prim.prim(roadNetwork, startNodeId);
+            SpanningTreeResult result = Prim.spanningTree(roadNetwork, startNodeId);
 
             // 3. Récupérer les arêtes et le coût total
-            List<Edge> mstEdges = (List<Edge>) result.get("edges");
-            double totalCost = (double) result.getOrDefault("totalWeight", 0.0);
+            List<Edge> mstEdges = result.edges();
+            double totalCost = result.totalWeight();
 
             // 4. Mettre à jour l'affichage
             graphDisplay.highlightTree(mstEdges, Color.BLUE);
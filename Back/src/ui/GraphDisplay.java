@@ -81,7 +81,7 @@ public class GraphDisplay extends Pane {
             if (sourcePoint == null) continue;
 
             for (Edge edge : sourceNode.getEdges()) {
-                Node targetNode = edge.getTarget();
+                Node targetNode = edge.getOpposite(sourceNode);
                 Point2D targetPoint = nodeCoordinates.get(targetNode.getId());
                 if (targetPoint == null) continue;
 
@@ -225,20 +225,15 @@ public class GraphDisplay extends Pane {
 
 
     /**
-     * Définit les positions X/Y des villes sur le canvas.
+     * Définit les positions X/Y des villes sur le canvas,
+     * à partir des coordonnées stockées dans les nœuds du graphe.
      */
     private void defineCoordinates() {
-        // (Coordonnées inchangées)
-        nodeCoordinates.put("Lille", new Point2D(550, 100));
-        nodeCoordinates.put("Caen", new Point2D(300, 120));
-        nodeCoordinates.put("Paris", new Point2D(400, 250));
-        nodeCoordinates.put("Nancy", new Point2D(650, 300));
-        nodeCoordinates.put("Rennes", new Point2D(150, 200));
-        nodeCoordinates.put("Dijon", new Point2D(520, 400));
-        nodeCoordinates.put("Nantes", new Point2D(250, 300));
-        nodeCoordinates.put("Lyon", new Point2D(550, 550));
-        nodeCoordinates.put("Grenoble", new Point2D(620, 600));
-        nodeCoordinates.put("Bordeaux", new Point2D(250, 500));
+        if (graph == null) return;
+
+        for (Node node : graph.getNodes()) {
+            nodeCoordinates.put(node.getId(), new Point2D(node.getX(), node.getY()));
+        }
     }
 
     /**
@@ -0,0 +1,60 @@
+package bench;
+
+import algorithms.DistanceMatrix;
+import algorithms.FloydWarshall;
+import models.CsrGraph;
+import models.Graph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Floyd-Warshall, en O(V^3) : tailles plus petites que les autres benchmarks.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllPairsBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SmallGraphState {
+        @Param({"grid", "geometric", "scaleFree", "road"})
+        public String shape;
+
+        @Param({"100", "400", "1000"})
+        public int size;
+
+        public Graph graph;
+        public CsrGraph csr;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            csr = GraphState.generate(shape, size);
+            graph = GraphState.toGraph(csr);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Double>> floydWarshall(SmallGraphState state) {
+        return FloydWarshall.floydWarshall(state.graph);
+    }
+
+    @Benchmark
+    public DistanceMatrix floydWarshallCsr(SmallGraphState state) {
+        return FloydWarshall.compute(state.csr, false);
+    }
+}
@@ -0,0 +1,70 @@
+package bench;
+
+import algorithms.DynamicMst;
+import algorithms.Kruskal;
+import models.Edge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arbre couvrant après un changement de poids : réparation par
+ * {@link DynamicMst} contre Kruskal recalculé sur tout le graphe.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicMstBenchmark {
+
+    @State(Scope.Thread)
+    public static class MstState {
+        public DynamicMst mst;
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            mst = DynamicMst.of(state.csr);
+            random = new Random(42L);
+        }
+    }
+
+    /**
+     * Donne à une arête le poids d'une autre, tirée au hasard : la
+     * répartition des poids reste celle du graphe de départ.
+     */
+    @Benchmark
+    public int update(MstState state) {
+        DynamicMst mst = state.mst;
+        int id = aliveEdge(mst, state.random);
+        mst.updateWeight(id, mst.weight(aliveEdge(mst, state.random)));
+        return mst.treeEdgeCount();
+    }
+
+    @Benchmark
+    public List<Edge> recompute(GraphState state) {
+        return Kruskal.traverse(state.csr);
+    }
+
+    private static int aliveEdge(DynamicMst mst, Random random) {
+        while (true) {
+            int id = random.nextInt(mst.edgeIdLimit());
+            if (mst.isAlive(id)) {
+                return id;
+            }
+        }
+    }
+}
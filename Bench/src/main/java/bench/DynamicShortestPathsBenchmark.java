@@ -0,0 +1,61 @@
+package bench;
+
+import algorithms.Dijkstra;
+import algorithms.DynamicShortestPaths;
+import algorithms.SingleSourceResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plus courts chemins depuis le premier nœud après un changement de poids :
+ * réparation par {@link DynamicShortestPaths} contre Dijkstra relancé.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicShortestPathsBenchmark {
+
+    @State(Scope.Thread)
+    public static class PathsState {
+        public DynamicShortestPaths paths;
+        public Random random;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            paths = DynamicShortestPaths.of(state.csr, state.source);
+            random = new Random(42L);
+        }
+    }
+
+    /**
+     * Donne à une arête le poids d'une autre, tirée au hasard : la
+     * répartition des poids reste celle du graphe de départ.
+     */
+    @Benchmark
+    public double update(PathsState state) {
+        DynamicShortestPaths paths = state.paths;
+        int edgeCount = paths.graph().edgeCount();
+        int e = state.random.nextInt(edgeCount);
+        paths.updateWeight(e, paths.weight(state.random.nextInt(edgeCount)));
+        return paths.distance(paths.graph().target(e));
+    }
+
+    @Benchmark
+    public SingleSourceResult recompute(GraphState state) {
+        return Dijkstra.singleSource(state.csr, state.source);
+    }
+}
@@ -0,0 +1,31 @@
+package bench;
+
+import models.CsrGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion d'un Graph en vue CSR. Graph.freeze() garde la vue en cache :
+ * les benchmarks de l'API historique ne la paient qu'une fois par essai,
+ * alors qu'une requête faite juste après une modification du graphe paie
+ * ce coût en plus du sien.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FreezeBenchmark {
+
+    @Benchmark
+    public CsrGraph freeze(GraphState state) {
+        return CsrGraph.from(state.graph);
+    }
+}
@@ -0,0 +1,84 @@
+package bench;
+
+import models.CsrGraph;
+import models.Graph;
+import models.GraphGenerators;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Graphe partagé par les benchmarks : généré une fois par essai au format CSR
+ * ({@link GraphGenerators}, graine fixe), puis recopié dans un Graph pour
+ * l'API historique, avec un départ et une arrivée fixes.
+ */
+@State(Scope.Benchmark)
+public class GraphState {
+    private static final long SEED = 42L;
+
+    @Param({"grid", "geometric", "scaleFree", "road"})
+    public String shape;
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    public Graph graph;
+    public CsrGraph csr;
+    public String sourceName;
+    public String targetName;
+    public int source;
+    public int target;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        csr = generate(shape, size);
+        graph = toGraph(csr);
+        // Premier et dernier nœud : coins opposés pour les grilles
+        source = 0;
+        target = csr.nodeCount() - 1;
+        sourceName = csr.nameOf(source);
+        targetName = csr.nameOf(target);
+    }
+
+    /**
+     * Graphe non dirigé d'environ size nœuds.
+     *
+     * @param shape "grid", "geometric", "scaleFree" ou "road".
+     */
+    static CsrGraph generate(String shape, int size) {
+        int side = Math.max(1, (int) Math.sqrt(size));
+        switch (shape) {
+            case "grid":
+                return GraphGenerators.grid(side, side, SEED);
+            case "geometric":
+                return GraphGenerators.randomGeometric(size, 8.0, SEED);
+            case "scaleFree":
+                return GraphGenerators.barabasiAlbert(size, 4, SEED);
+            case "road":
+                return GraphGenerators.roadNetwork(side, side, SEED);
+            default:
+                throw new IllegalArgumentException("Forme de graphe inconnue : " + shape);
+        }
+    }
+
+    /**
+     * Recopie un graphe CSR non dirigé dans un Graph (mêmes noms, mêmes
+     * coordonnées), une arête non dirigée par couple arête / copie inverse.
+     */
+    static Graph toGraph(CsrGraph csr) {
+        Graph graph = new Graph();
+        for (int u = 0; u < csr.nodeCount(); u++) {
+            graph.addNode(csr.nameOf(u), csr.x(u), csr.y(u));
+        }
+        for (int u = 0; u < csr.nodeCount(); u++) {
+            for (int e = csr.firstEdge(u); e < csr.endEdge(u); e++) {
+                if (!csr.isReverseCopy(e)) {
+                    graph.addUndirectedEdge(csr.nameOf(u), csr.nameOf(csr.target(e)), csr.weight(e));
+                }
+            }
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,49 @@
+package bench;
+
+import algorithms.BellmanFord;
+import algorithms.Dijkstra;
+import algorithms.ShortestPathResult;
+import algorithms.SingleSourceResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plus courts chemins : Dijkstra point à point (premier au dernier nœud)
+ * et Bellman-Ford depuis le premier nœud, par l'API historique et par
+ * l'API typée sur la vue CSR.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShortestPathBenchmark {
+
+    @Benchmark
+    public Map<String, Object> dijkstra(GraphState state) {
+        return Dijkstra.dijkstra(state.graph, state.sourceName, state.targetName);
+    }
+
+    @Benchmark
+    public ShortestPathResult dijkstraCsr(GraphState state) {
+        return Dijkstra.route(state.csr, state.source, state.target);
+    }
+
+    @Benchmark
+    public Map<String, Object> bellmanFord(GraphState state) {
+        return BellmanFord.findShortestPaths(state.graph, state.sourceName);
+    }
+
+    @Benchmark
+    public SingleSourceResult bellmanFordCsr(GraphState state) {
+        return BellmanFord.singleSource(state.csr, state.source);
+    }
+}
@@ -0,0 +1,49 @@
+package bench;
+
+import algorithms.Kruskal;
+import algorithms.Prim;
+import algorithms.SpanningTreeResult;
+import models.Edge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Arbres couvrants de poids minimum : Kruskal et Prim, sur Graph (vue CSR
+ * en cache, voir {@link FreezeBenchmark}) et sur la vue CSR.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpanningTreeBenchmark {
+
+    @Benchmark
+    public List<Edge> kruskal(GraphState state) {
+        return Kruskal.traverse(state.graph);
+    }
+
+    @Benchmark
+    public List<Edge> kruskalCsr(GraphState state) {
+        return Kruskal.traverse(state.csr);
+    }
+
+    @Benchmark
+    public Map<String, Object> prim(GraphState state) {
+        return Prim.prim(state.graph, state.sourceName);
+    }
+
+    @Benchmark
+    public SpanningTreeResult primCsr(GraphState state) {
+        return Prim.spanningTree(state.csr, state.source);
+    }
+}
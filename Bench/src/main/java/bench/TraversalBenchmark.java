@@ -0,0 +1,48 @@
+package bench;
+
+import algorithms.BFS;
+import algorithms.DFS;
+import algorithms.TraversalResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parcours BFS et DFS : API historique sur Graph (vue CSR en cache,
+ * résultat converti en Map) et API typée sur la vue CSR. Le figeage
+ * lui-même est mesuré à part ({@link FreezeBenchmark}).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark {
+
+    @Benchmark
+    public Map<String, Object> bfs(GraphState state) {
+        return BFS.bfs(state.graph, state.sourceName);
+    }
+
+    @Benchmark
+    public TraversalResult bfsCsr(GraphState state) {
+        return BFS.traversal(state.csr, state.source);
+    }
+
+    @Benchmark
+    public Map<String, Object> dfs(GraphState state) {
+        return DFS.dfs(state.graph, state.sourceName);
+    }
+
+    @Benchmark
+    public TraversalResult dfsCsr(GraphState state) {
+        return DFS.traversal(state.csr, state.source);
+    }
+}
@@ -0,0 +1,84 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.Edge;
+import models.Graph;
+import models.GraphGenerators;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test différentiel : après chaque insertion, suppression ou changement de
+ * poids tiré au hasard, la forêt maintenue doit avoir le poids et le nombre
+ * d'arêtes de celle de Kruskal recalculée sur les arêtes courantes.
+ */
+class DynamicMstTest {
+
+    @Test
+    void matchesKruskalAfterRandomUpdates() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            CsrGraph graph = GraphGenerators.erdosRenyi(40, 60, false, seed);
+            DynamicMst mst = DynamicMst.of(graph);
+            assertMatchesKruskal(mst, "seed " + seed + ", initial");
+
+            for (int step = 0; step < 300; step++) {
+                int op = random.nextInt(3);
+                int id = randomAliveEdge(mst, random);
+                if (op == 0 || id < 0) {
+                    mst.insertEdge(random.nextInt(40), random.nextInt(40), 1 + random.nextInt(20));
+                } else if (op == 1) {
+                    mst.deleteEdge(id);
+                } else {
+                    // Poids entiers : les égalités, départagées par identifiant, sont fréquentes
+                    mst.updateWeight(id, 1 + random.nextInt(20));
+                }
+                assertMatchesKruskal(mst, "seed " + seed + ", step " + step);
+            }
+        }
+    }
+
+    private static int randomAliveEdge(DynamicMst mst, Random random) {
+        if (mst.edgeCount() == 0) {
+            return -1;
+        }
+        while (true) {
+            int id = random.nextInt(mst.edgeIdLimit());
+            if (mst.isAlive(id)) {
+                return id;
+            }
+        }
+    }
+
+    private static void assertMatchesKruskal(DynamicMst mst, String context) {
+        Graph graph = new Graph();
+        for (int v = 0; v < mst.nodeCount(); v++) {
+            graph.addNode(Integer.toString(v), 0, 0);
+        }
+        for (int id = 0; id < mst.edgeIdLimit(); id++) {
+            if (mst.isAlive(id)) {
+                graph.addUndirectedEdge(Integer.toString(mst.source(id)), Integer.toString(mst.target(id)), mst.weight(id));
+            }
+        }
+        List<Edge> expected = Kruskal.traverse(graph);
+        double expectedWeight = 0;
+        for (Edge edge : expected) {
+            expectedWeight += edge.getWeight();
+        }
+
+        // Les arêtes de l'arbre ne forment pas de cycle
+        DisjointSet forest = new DisjointSet(mst.nodeCount());
+        for (int id : mst.treeEdges()) {
+            assertTrue(mst.isAlive(id) && forest.union(mst.source(id), mst.target(id)), context);
+        }
+
+        assertEquals(expected.size(), mst.treeEdgeCount(), context);
+        assertEquals(mst.nodeCount() - expected.size(), mst.componentCount(), context);
+        assertEquals(expectedWeight, mst.totalWeight(), context);
+    }
+}
@@ -0,0 +1,59 @@
+package algorithms;
+
+import models.CsrGraph;
+import models.GraphGenerators;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Test différentiel : après chaque changement de poids tiré au hasard, les
+ * distances maintenues doivent être celles de Dijkstra relancé sur
+ * {@link DynamicShortestPaths#snapshot()}, et l'arbre doit les justifier.
+ */
+class DynamicShortestPathsTest {
+
+    @Test
+    void matchesDijkstraOnDirectedGraphs() {
+        for (long seed = 0; seed < 20; seed++) {
+            checkRandomUpdates(GraphGenerators.erdosRenyi(40, 120, true, seed), seed);
+        }
+    }
+
+    @Test
+    void matchesDijkstraOnUndirectedGraphs() {
+        for (long seed = 0; seed < 10; seed++) {
+            checkRandomUpdates(GraphGenerators.grid(7, 7, seed), seed);
+        }
+    }
+
+    private static void checkRandomUpdates(CsrGraph graph, long seed) {
+        Random random = new Random(seed);
+        DynamicShortestPaths paths = DynamicShortestPaths.of(graph, 0);
+        assertMatchesDijkstra(paths, "seed " + seed + ", initial");
+
+        for (int step = 0; step < 300; step++) {
+            int e = random.nextInt(graph.edgeCount());
+            // Poids entiers, nuls compris : égalités et cycles de poids nul
+            paths.updateWeight(e, random.nextInt(21));
+            assertMatchesDijkstra(paths, "seed " + seed + ", step " + step);
+        }
+    }
+
+    private static void assertMatchesDijkstra(DynamicShortestPaths paths, String context) {
+        CsrGraph snapshot = paths.snapshot();
+        SingleSourceResult expected = Dijkstra.singleSource(snapshot, paths.source());
+        for (int v = 0; v < snapshot.nodeCount(); v++) {
+            assertEquals(expected.distance(v), paths.distance(v), context + ", node " + v);
+
+            int e = paths.parentEdge(v);
+            if (e >= 0) {
+                int u = paths.predecessor(v);
+                assertEquals(v, snapshot.target(e), context);
+                assertEquals(paths.distance(v), paths.distance(u) + snapshot.weight(e), context);
+            }
+        }
+    }
+}